@@ -0,0 +1,88 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/// Compares JMH JSON results with a stored baseline and exits with code 1 if any score regressed.
+/// Scores are matched by benchmark, mode and parameters. Throughput must not drop, time and allocation
+/// per operation must not grow by more than the tolerance. Benchmarks missing in the baseline are reported and skipped.
+/// Usage: BaselineCheck <baseline.json> <result.json> [tolerance percent, default 10]
+public final class BaselineCheck {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    /// Allocation differences below this number of bytes per operation are noise of the profiler
+    private static final double ALLOCATION_NOISE = 1.0;
+
+
+    private BaselineCheck() {
+
+    }
+
+    private record Score(double value, boolean higherIsBetter) {
+    }
+
+    private static Map<String, Score> readScores(final Path path) throws IOException {
+        final Map<String, Score> scores = new TreeMap<>();
+        final List<?> results = (List<?>) Json.parse(Files.readString(path));
+        for (final Object item : results) {
+            final Map<?, ?> result = (Map<?, ?>) item;
+            final String mode = (String) result.get("mode");
+            final Map<?, ?> params = result.get("params") instanceof Map<?, ?> map ? new TreeMap<>(map) : Map.of();
+            final String name = result.get("benchmark") + " " + mode + " " + params;
+
+            final Map<?, ?> primary = (Map<?, ?>) result.get("primaryMetric");
+            if (primary.get("score") instanceof Double score) {
+                scores.put(name, new Score(score, mode.equals("thrpt")));
+            }
+
+            if (result.get("secondaryMetrics") instanceof Map<?, ?> secondary
+                    && secondary.get(ALLOCATION) instanceof Map<?, ?> allocation
+                    && allocation.get("score") instanceof Double score) {
+                scores.put(name + " " + ALLOCATION, new Score(score, false));
+            }
+        }
+        return scores;
+    }
+
+    private static boolean isRegression(final String name, final Score baseline, final Score current, final double tolerance) {
+        final double difference = current.value - baseline.value;
+        if (name.endsWith(ALLOCATION) && Math.abs(difference) < ALLOCATION_NOISE) {
+            return false;
+        }
+        final double allowed = Math.abs(baseline.value) * tolerance;
+        return baseline.higherIsBetter ? -difference > allowed : difference > allowed;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <baseline.json> <result.json> [tolerance percent]");
+            System.exit(2);
+        }
+        final Map<String, Score> baseline = readScores(Path.of(args[0]));
+        final Map<String, Score> current = readScores(Path.of(args[1]));
+        final double tolerance = (args.length > 2 ? Double.parseDouble(args[2]) : 10) / 100;
+
+        int regressions = 0;
+        for (final Map.Entry<String, Score> pair : current.entrySet()) {
+            final Score expected = baseline.get(pair.getKey());
+            if (expected == null) {
+                System.out.printf("NEW        %s: %.3f%n", pair.getKey(), pair.getValue().value);
+                continue;
+            }
+            final boolean regression = isRegression(pair.getKey(), expected, pair.getValue(), tolerance);
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f%n", regression ? "REGRESSION" : "OK",
+                    pair.getKey(), expected.value, pair.getValue().value);
+        }
+
+        if (regressions != 0) {
+            System.out.printf("%d regressions, tolerance %.0f%%%n", regressions, tolerance * 100);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/// Runs benchmarks with the gc profiler and writes JMH results in JSON, the input of BaselineCheck.
+/// Usage: BenchmarkRunner <result.json> [JMH options], without benchmark regexp in the options the suite is run
+public final class BenchmarkRunner {
+
+    private static final String[] SUITE = {
+            WarmParseBenchmark.class.getSimpleName(),
+            ColdParseBenchmark.class.getSimpleName()
+    };
+
+
+    private BenchmarkRunner() {
+
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        if (args.length == 0) {
+            System.err.println("Usage: BenchmarkRunner <result.json> [JMH options]");
+            System.exit(2);
+        }
+
+        final CommandLineOptions commandLine = new CommandLineOptions(Arrays.copyOfRange(args, 1, args.length));
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(args[0]);
+        if (commandLine.getIncludes().isEmpty()) {
+            for (final String include : SUITE) {
+                options.include(include);
+            }
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import parser.ArgumentParser;
+import parser.exception.ArgumentParserException;
+
+import java.util.concurrent.TimeUnit;
+
+/// Latency of the first parse of a class: schema validation, indexing and binding plus the parse itself.
+/// Every iteration gets a new generated class, the first iteration of every fork also includes loading of the parser.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@Fork(5)
+@State(Scope.Benchmark)
+public class ColdParseBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int fields;
+
+    @Param({"100:0:0", "0:100:0", "0:0:100", "40:30:30"})
+    private String mix;
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private SchemaGenerator generator;
+
+    private Class<?> clazz;
+
+    private String[] args;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        generator = SchemaGenerator.of(fields, mix);
+        args = generator.arguments(valid);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        clazz = generator.generate();
+    }
+
+    @Benchmark
+    public Object firstParse() {
+        try {
+            return ArgumentParser.parseArguments(clazz, args);
+        } catch (final ArgumentParserException e) {
+            return e;
+        }
+    }
+}
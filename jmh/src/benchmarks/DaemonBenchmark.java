@@ -0,0 +1,87 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import parser.daemon.ParseClient;
+import parser.daemon.ParseServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Latency of one invocation: ParseMain in a new JVM, ParseClient main in a new JVM and a request of a connected client.
+/// The new JVM benchmarks include process start, so they show what the daemon saves
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DaemonBenchmark {
+
+    private static final String[] ARGS = {"--port", "8080", "--host", "localhost", "--verbose"};
+
+    private Path dir;
+
+    private ParseServer server;
+
+    private ParseClient client;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("parser");
+        server = new ParseServer(dir.resolve("parser.sock"))
+                .register("parse", ParseMain.Options.class, (options, env, stdout, stderr) -> {
+                    stdout.println(options.host + ":" + options.port);
+                    return 0;
+                })
+                .start();
+        client = new ParseClient(dir.resolve("parser.sock"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+        Files.deleteIfExists(dir);
+    }
+
+    private static int runJava(final String mainClass, final String... args) throws IOException, InterruptedException {
+        final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        final String[] command = new String[args.length + 4];
+        command[0] = java;
+        command[1] = "-cp";
+        command[2] = System.getProperty("java.class.path");
+        command[3] = mainClass;
+        System.arraycopy(args, 0, command, 4, args.length);
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start()
+                .waitFor();
+    }
+
+    @Benchmark
+    public int newJvm() throws Exception {
+        return runJava(ParseMain.class.getName(), ARGS);
+    }
+
+    @Benchmark
+    public int newJvmClient() throws Exception {
+        final String[] args = new String[ARGS.length + 2];
+        args[0] = dir.resolve("parser.sock").toString();
+        args[1] = "parse";
+        System.arraycopy(ARGS, 0, args, 2, ARGS.length);
+        return runJava(ParseClient.class.getName(), args);
+    }
+
+    @Benchmark
+    public int daemon() throws IOException {
+        out.reset();
+        return client.execute("parse", ARGS, Map.of(), out, out);
+    }
+}
@@ -0,0 +1,151 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// Minimal JSON reader for JMH result files: objects become Map, arrays List, numbers Double.
+/// JMH writes "NaN" and "Infinity" scores as strings, they are read as strings too
+final class Json {
+
+    private final String text;
+
+    private int position;
+
+
+    private Json(final String text) {
+        this.text = text;
+    }
+
+    static Object parse(final String text) {
+        final Json json = new Json(text);
+        final Object value = json.value();
+        json.skipWhitespace();
+        if (json.position != text.length()) {
+            throw json.error("End of input expected");
+        }
+        return value;
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void expect(final char c) {
+        skipWhitespace();
+        if (position >= text.length() || text.charAt(position) != c) {
+            throw error("'" + c + "' expected");
+        }
+        position++;
+    }
+
+    private boolean consume(final char c) {
+        skipWhitespace();
+        if (position < text.length() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private Object value() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            throw error("Value expected");
+        }
+        final char c = text.charAt(position);
+        if (c == '{') {
+            return object();
+        } else if (c == '[') {
+            return array();
+        } else if (c == '"') {
+            return string();
+        } else if (text.startsWith("true", position)) {
+            position += 4;
+            return true;
+        } else if (text.startsWith("false", position)) {
+            position += 5;
+            return false;
+        } else if (text.startsWith("null", position)) {
+            position += 4;
+            return null;
+        }
+        return number();
+    }
+
+    private Map<String, Object> object() {
+        expect('{');
+        final Map<String, Object> map = new LinkedHashMap<>();
+        if (consume('}')) {
+            return map;
+        }
+        do {
+            skipWhitespace();
+            final String key = string();
+            expect(':');
+            map.put(key, value());
+        } while (consume(','));
+        expect('}');
+        return map;
+    }
+
+    private List<Object> array() {
+        expect('[');
+        final List<Object> list = new ArrayList<>();
+        if (consume(']')) {
+            return list;
+        }
+        do {
+            list.add(value());
+        } while (consume(','));
+        expect(']');
+        return list;
+    }
+
+    private String string() {
+        expect('"');
+        final StringBuilder builder = new StringBuilder();
+        while (position < text.length()) {
+            final char c = text.charAt(position++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            final char escaped = text.charAt(position++);
+            switch (escaped) {
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'u' -> {
+                    builder.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    position += 4;
+                }
+                default -> builder.append(escaped);
+            }
+        }
+        throw error("Not closed string");
+    }
+
+    private Double number() {
+        final int start = position;
+        while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+            position++;
+        }
+        if (start == position) {
+            throw error("Value expected");
+        }
+        return Double.parseDouble(text.substring(start, position));
+    }
+}
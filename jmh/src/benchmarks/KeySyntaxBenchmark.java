@@ -0,0 +1,59 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.exception.ArgumentParserException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Parse of the same values given as "--key value" and as "--key=value", run with -prof gc:
+/// the value of key=value must not allocate a substring
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeySyntaxBenchmark {
+
+    @Param({"50", "500"})
+    private int fields;
+
+    @Param({"separate", "equals"})
+    private String syntax;
+
+    private CompiledParser<?> parser;
+
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        final SchemaGenerator generator = SchemaGenerator.of(fields, "60:20:20");
+        parser = ArgumentParser.compile(generator.generate());
+        args = generator.arguments(true);
+        if (syntax.equals("equals")) {
+            args = joinValues(args);
+        }
+    }
+
+    /// Keys are "--f" + index, a value is a token which is not a key
+    private static String[] joinValues(final String[] args) {
+        final List<String> joined = new ArrayList<>(args.length);
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 < args.length && !args[i + 1].startsWith("--f")) {
+                joined.add(args[i] + "=" + args[++i]);
+            } else {
+                joined.add(args[i]);
+            }
+        }
+        return joined.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Object parse() throws ArgumentParserException {
+        return parser.parse(args);
+    }
+}
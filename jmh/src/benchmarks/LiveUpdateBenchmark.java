@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.LiveContainer;
+import parser.exception.ArgumentParserException;
+
+import java.util.concurrent.TimeUnit;
+
+/// Reload of settings where one value of the vector changes: full parse against LiveContainer.update,
+/// and update with the current vector
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LiveUpdateBenchmark {
+
+    @Param({"50", "500"})
+    private int fields;
+
+    private CompiledParser<?> parser;
+
+    private LiveContainer<?> live;
+
+    /// Two vectors which differ in the value of the first field
+    private final String[][] args = new String[2][];
+
+    private int next;
+
+    @Setup
+    public void setup() throws ArgumentParserException {
+        final SchemaGenerator generator = SchemaGenerator.of(fields, "100:0:0");
+        final Class<?> clazz = generator.generate();
+        parser = ArgumentParser.compile(clazz);
+        args[0] = generator.arguments(true);
+        args[1] = args[0].clone();
+        args[1][1] = "12345";
+        live = ArgumentParser.live(clazz, args[0]);
+    }
+
+    @Benchmark
+    public Object parse() throws ArgumentParserException {
+        next ^= 1;
+        return parser.parse(args[next]);
+    }
+
+    @Benchmark
+    public Object update() throws ArgumentParserException {
+        next ^= 1;
+        return live.update(args[next]);
+    }
+
+    @Benchmark
+    public Object unchanged() throws ArgumentParserException {
+        return live.update(args[0]);
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks;
+
+import annotations.Container;
+import annotations.fields.*;
+import parser.ArgumentParser;
+
+/// Command of DaemonBenchmark: one parse in a fresh JVM, as a wrapper script does without the daemon
+public final class ParseMain {
+
+    @Container
+    public static class Options {
+        @Argument(value = "--port", messageError = "Error in port")
+        public int port;
+
+        @Argument(value = "--host", messageError = "Error in host")
+        public String host;
+
+        @BoolArgument("--verbose")
+        public boolean verbose;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options options = ArgumentParser.parseArguments(Options.class, args);
+        System.out.println(options.host + ":" + options.port);
+    }
+}
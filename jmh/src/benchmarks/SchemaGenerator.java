@@ -0,0 +1,163 @@
+package benchmarks;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// Generates and compiles @Container classes with any number of fields, so benchmarks can vary the schema
+/// without hundreds of hand written fields. Every generated class has its own class loader,
+/// a new class is never in the schema cache of ArgumentParser.
+public final class SchemaGenerator {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private final Kind[] kinds;
+
+
+    /// Shares are percents of numeric, enum and boolean fields, the rest are String fields
+    public SchemaGenerator(final int fields, final int numericShare, final int enumShare, final int booleanShare) {
+        if (numericShare + enumShare + booleanShare > 100) {
+            throw new IllegalArgumentException("Sum of shares is more than 100");
+        }
+        this.kinds = new Kind[fields];
+        final int numeric = fields * numericShare / 100;
+        final int enums = fields * enumShare / 100;
+        final int booleans = fields * booleanShare / 100;
+        for (int i = 0; i < fields; i++) {
+            if (i < numeric) {
+                kinds[i] = Kind.values()[i % 3];
+            } else if (i < numeric + enums) {
+                kinds[i] = Kind.ENUM;
+            } else if (i < numeric + enums + booleans) {
+                kinds[i] = Kind.BOOLEAN;
+            } else {
+                kinds[i] = Kind.STRING;
+            }
+        }
+    }
+
+    /// Mix is "numeric:enum:boolean" in percents, e.g. "40:30:30"
+    public static SchemaGenerator of(final int fields, final String mix) {
+        final String[] shares = mix.split(":");
+        return new SchemaGenerator(fields, Integer.parseInt(shares[0]), Integer.parseInt(shares[1]), Integer.parseInt(shares[2]));
+    }
+
+    private String source(final String name) {
+        final StringBuilder code = new StringBuilder();
+        code.append("package generated;\n\n");
+        code.append("import annotations.Container;\n");
+        code.append("import annotations.fields.*;\n\n");
+        code.append("@Container\n");
+        code.append("public class ").append(name).append(" {\n");
+        code.append("    public enum Choice { ALPHA, BETA, GAMMA, DELTA }\n\n");
+        for (int i = 0; i < kinds.length; i++) {
+            final String key = "\"--f" + i + "\"";
+            final String messageError = "\"Error in f" + i + "\"";
+            switch (kinds[i]) {
+                case BOOLEAN -> code.append("    @BoolArgument(").append(key).append(")\n");
+                case ENUM -> code.append("    @EnumArgument(value = ").append(key).append(", messageError = ").append(messageError).append(")\n");
+                default -> code.append("    @Argument(value = ").append(key).append(", messageError = ").append(messageError).append(")\n");
+            }
+            code.append("    public ").append(kinds[i].type).append(" f").append(i).append(";\n\n");
+        }
+        code.append("}\n");
+        return code.toString();
+    }
+
+    public Class<?> generate() {
+        final String name = "Schema" + kinds.length + "_" + counter.incrementAndGet();
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+        final StandardJavaFileManager standard = compiler.getStandardFileManager(null, null, null);
+        final JavaFileManager manager = new ForwardingJavaFileManager<>(standard) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(final Location location, final String className,
+                                                       final JavaFileObject.Kind kind, final FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return classes.computeIfAbsent(className, ignored -> new ByteArrayOutputStream());
+                    }
+                };
+            }
+        };
+        final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///generated/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source(name);
+            }
+        };
+
+        final List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-proc:none");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        if (!compiler.getTask(null, manager, diagnostics, options, null, List.of(file)).call()) {
+            throw new IllegalStateException("Schema is not compiled: " + diagnostics.getDiagnostics());
+        }
+
+        final ClassLoader loader = new ClassLoader(SchemaGenerator.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(final String className) throws ClassNotFoundException {
+                final ByteArrayOutputStream bytes = classes.get(className);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(className);
+                }
+                final byte[] code = bytes.toByteArray();
+                return defineClass(className, code, 0, code.length);
+            }
+        };
+        try {
+            return loader.loadClass("generated." + name);
+        } catch (final ClassNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /// All fields are given. Invalid arguments break the last number or enum value,
+    /// a schema without them gets unknown argument
+    public String[] arguments(final boolean valid) {
+        final List<String> args = new ArrayList<>();
+        int breakable = -1;
+        for (int i = 0; i < kinds.length; i++) {
+            args.add("--f" + i);
+            if (kinds[i] != Kind.BOOLEAN) {
+                if (kinds[i] != Kind.STRING) {
+                    breakable = args.size();
+                }
+                args.add(kinds[i].sample(i));
+            }
+        }
+        if (!valid) {
+            if (breakable >= 0) {
+                args.set(breakable, "not-a-value");
+            } else {
+                args.add("--unknown");
+            }
+        }
+        return args.toArray(String[]::new);
+    }
+
+
+    private enum Kind {
+        INT("int"), LONG("long"), DOUBLE("double"), ENUM("Choice"), BOOLEAN("boolean"), STRING("String");
+
+        private final String type;
+
+        Kind(final String type) {
+            this.type = type;
+        }
+
+        private String sample(final int i) {
+            return switch (this) {
+                case INT -> Integer.toString(i * 31);
+                case LONG -> Long.toString(i * 1_000_003L);
+                case DOUBLE -> (i + 0.25) + "";
+                case ENUM -> new String[]{"ALPHA", "BETA", "GAMMA", "DELTA"}[i % 4];
+                case STRING -> "value" + i;
+                case BOOLEAN -> throw new AssertionError("Boolean argument has no value");
+            };
+        }
+    }
+}
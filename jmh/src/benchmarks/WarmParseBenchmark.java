@@ -0,0 +1,53 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.exception.ArgumentParserException;
+
+import java.util.concurrent.TimeUnit;
+
+/// Steady state parse throughput, run with -prof gc for the allocation rate per parse
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WarmParseBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int fields;
+
+    /// Percents of numeric, enum and boolean fields, the rest are strings
+    @Param({"100:0:0", "0:100:0", "0:0:100", "40:30:30"})
+    private String mix;
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private CompiledParser<?> parser;
+
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        final SchemaGenerator generator = SchemaGenerator.of(fields, mix);
+        parser = ArgumentParser.compile(generator.generate());
+        args = generator.arguments(valid);
+    }
+
+    @Benchmark
+    public Object parse() {
+        try {
+            return parser.parse(args);
+        } catch (final ArgumentParserException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object tryParse() {
+        return parser.tryParse(args);
+    }
+}
@@ -0,0 +1,66 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.Argument;
+import annotations.fields.BoolArgument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/// Throughput of BatchParser depending on the number of worker threads
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchParserBenchmark {
+
+    @Container
+    public static class Target {
+        @Argument(value = "--id", messageError = "Error in id")
+        private long id;
+
+        @Argument(value = "--name", messageError = "Error in name")
+        private String name;
+
+        @BoolArgument("--flag")
+        private boolean flag;
+    }
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"1024"})
+    private int chunkSize;
+
+    private List<String[]> input;
+
+    private ForkJoinPool pool;
+
+    private BatchParser<Target> parser;
+
+    @Setup
+    public void setup() {
+        input = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            input.add(new String[]{"--id", Integer.toString(i), "--name", "job" + i, "--flag"});
+        }
+        pool = new ForkJoinPool(threads);
+        parser = new BatchParser<>(ArgumentParser.compile(Target.class), chunkSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100_000)
+    public Object parseAll() {
+        return parser.parseAll(input, pool);
+    }
+}
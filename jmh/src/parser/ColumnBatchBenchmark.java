@@ -0,0 +1,109 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.Argument;
+import annotations.fields.BoolArgument;
+import annotations.fields.EnumArgument;
+import org.openjdk.jmh.annotations.*;
+import parser.exception.ArgumentParserException;
+
+import java.util.concurrent.TimeUnit;
+
+/// Replay of argument vectors aggregated over two fields: containers against ColumnBatch on heap and off heap
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnBatchBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    public enum Kind { READ, WRITE, DELETE }
+
+    @Container
+    public static class Target {
+        @Argument(value = "--id", messageError = "Error in id")
+        private long id;
+
+        @Argument(value = "--latency", messageError = "Error in latency")
+        private double latency;
+
+        @EnumArgument(value = "--kind", messageError = "Error in kind")
+        private Kind kind;
+
+        @BoolArgument("--flag")
+        private boolean flag;
+    }
+
+    private String[][] input;
+
+    private CompiledParser<Target> parser;
+
+    private ColumnBatch<Target> heap;
+
+    private ColumnBatch<Target> offHeap;
+
+    @Setup
+    public void setup() {
+        input = new String[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            input[i] = i % 2 == 0
+                    ? new String[]{"--id", Integer.toString(i), "--latency", "0." + i, "--kind", Kind.values()[i % 3].name(), "--flag"}
+                    : new String[]{"--id", Integer.toString(i), "--latency", "0." + i, "--kind", Kind.values()[i % 3].name()};
+        }
+        parser = ArgumentParser.compile(Target.class);
+        heap = parser.columns(ROWS, false);
+        offHeap = parser.columns(ROWS, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        heap.close();
+        offHeap.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double containers() throws ArgumentParserException {
+        double sum = 0;
+        for (final String[] args : input) {
+            final Target target = parser.parse(args);
+            if (target.flag && target.kind == Kind.WRITE) {
+                sum += target.latency;
+            }
+        }
+        return sum;
+    }
+
+    private double columns(final ColumnBatch<Target> batch) {
+        batch.clear();
+        for (final String[] args : input) {
+            batch.add(args);
+        }
+        final Column.DoubleColumn latency = batch.column("latency", Column.DoubleColumn.class);
+        final Column.EnumColumn kind = batch.column("kind", Column.EnumColumn.class);
+        final Column.BooleanColumn flag = batch.column("flag", Column.BooleanColumn.class);
+        final int write = Kind.WRITE.ordinal();
+        double sum = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (flag.get(i) && kind.code(i) == write) {
+                sum += latency.get(i);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double columnsOnHeap() {
+        return columns(heap);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double columnsOffHeap() {
+        return columns(offHeap);
+    }
+}
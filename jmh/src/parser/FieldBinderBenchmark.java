@@ -0,0 +1,99 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.Argument;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/// Compares the old reflective bind step (setAccessible + boxed Field.set) with the compiled method handle binders
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldBinderBenchmark {
+
+    @Container
+    public static class Target {
+        @Argument(value = "--int", messageError = "Error in int")
+        private int intField;
+
+        @Argument(value = "--long", messageError = "Error in long")
+        private long longField;
+
+        @Argument(value = "--double", messageError = "Error in double")
+        private double doubleField;
+
+        @Argument(value = "--string", messageError = "Error in string")
+        private String stringField;
+    }
+
+    private static final String[] VALUES = {"123456", "9876543210", "3.25", "value"};
+
+    /// Per-value lookup of the old reflective parser
+    private static final Map<Class<?>, Function<String, Object>> classToFunction = Map.of(
+            int.class, Integer::parseInt,
+            long.class, Long::parseLong,
+            double.class, Double::parseDouble,
+            String.class, str -> str
+    );
+
+    private Field[] fields;
+
+    private FieldBinder[] binders;
+
+    private Target target;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        fields = new Field[]{
+                Target.class.getDeclaredField("intField"),
+                Target.class.getDeclaredField("longField"),
+                Target.class.getDeclaredField("doubleField"),
+                Target.class.getDeclaredField("stringField")
+        };
+        binders = new FieldBinder[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            binders[i] = FieldBinder.of(i, fields[i].getName(), fields[i], false);
+        }
+        target = new Target();
+    }
+
+    @Benchmark
+    public Object reflectiveBind() throws IllegalAccessException {
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            field.setAccessible(true);
+            field.set(target, classToFunction.get(field.getType()).apply(VALUES[i]));
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Object handleBind() {
+        for (int i = 0; i < binders.length; i++) {
+            binders[i].set(target, VALUES[i]);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public void reflectiveCreate(final Blackhole blackhole) throws ReflectiveOperationException {
+        final Constructor<Target> constructor = Target.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        blackhole.consume(constructor.newInstance());
+    }
+
+    @Benchmark
+    public void compiledParse(final Blackhole blackhole) throws Exception {
+        blackhole.consume(ArgumentParser.parseArguments(Target.class,
+                new String[]{"--int", VALUES[0], "--long", VALUES[1], "--double", VALUES[2], "--string", VALUES[3]}));
+    }
+}
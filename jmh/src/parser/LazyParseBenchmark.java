@@ -0,0 +1,64 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/// A tool reads one option of many: parseLazy doesn't pay for conversion of the others
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazyParseBenchmark {
+
+    @Container
+    public static class Target {
+        @Argument(value = "--port", messageError = "Error in port")
+        private int port;
+
+        @ListArgument(value = "--partitions", messageError = "Error in partitions")
+        private long[] partitions;
+
+        @ListArgument(value = "--weights", messageError = "Error in weights")
+        private double[] weights;
+    }
+
+    public interface View {
+        int port();
+
+        long[] partitions();
+
+        double[] weights();
+    }
+
+    private String[] args;
+
+    private CompiledParser<Target> parser;
+
+    @Setup
+    public void setup() {
+        final StringJoiner partitions = new StringJoiner(",");
+        final StringJoiner weights = new StringJoiner(",");
+        for (int i = 0; i < 1000; i++) {
+            partitions.add(Long.toString(i * 1_000_003L));
+            weights.add(Double.toString(i / 7.0));
+        }
+        args = new String[]{"--port", "8080", "--partitions", partitions.toString(), "--weights", weights.toString()};
+        parser = ArgumentParser.compile(Target.class);
+    }
+
+    @Benchmark
+    public int eager() throws Exception {
+        return parser.parse(args).port;
+    }
+
+    @Benchmark
+    public int lazy() throws Exception {
+        return parser.parseLazy(args, View.class).port();
+    }
+}
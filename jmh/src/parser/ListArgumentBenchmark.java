@@ -0,0 +1,69 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/// Run with -prof gc: int[] allocates only the result array, List of a range only the list
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListArgumentBenchmark {
+
+    @Container
+    public static class ArrayTarget {
+        @ListArgument(value = "--partitions", messageError = "Error in partitions", ranges = true)
+        private int[] partitions;
+    }
+
+    @Container
+    public static class ListTarget {
+        @ListArgument(value = "--partitions", messageError = "Error in partitions", ranges = true)
+        private List<Integer> partitions;
+    }
+
+    @Param({"10000"})
+    private int size;
+
+    private String[] separated;
+
+    private String[] range;
+
+    private CompiledParser<ArrayTarget> arrayParser;
+
+    private CompiledParser<ListTarget> listParser;
+
+    @Setup
+    public void setup() {
+        final StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < size; i++) {
+            joiner.add(Integer.toString(i * 7));
+        }
+        separated = new String[]{"--partitions", joiner.toString()};
+        range = new String[]{"--partitions", "0.." + (size - 1)};
+        arrayParser = ArgumentParser.compile(ArrayTarget.class);
+        listParser = ArgumentParser.compile(ListTarget.class);
+    }
+
+    @Benchmark
+    public ArrayTarget separatedArray() throws Exception {
+        return arrayParser.parse(separated);
+    }
+
+    @Benchmark
+    public ArrayTarget rangeArray() throws Exception {
+        return arrayParser.parse(range);
+    }
+
+    @Benchmark
+    public ListTarget rangeList() throws Exception {
+        return listParser.parse(range);
+    }
+}
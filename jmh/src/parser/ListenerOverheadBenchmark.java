@@ -0,0 +1,64 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Cost of instrumentation: "none" must match ParseAllocationBenchmark.parse in time and allocation,
+/// "statistics" is the cost of ParseStatistics
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerOverheadBenchmark {
+
+    @Container
+    public static class Target {
+        @Argument(value = "--port", messageError = "Error in port")
+        private int port;
+
+        @Argument(value = "--timeout", messageError = "Error in timeout")
+        private long timeout;
+
+        @Argument(value = "--weight", messageError = "Error in weight")
+        @NotRequired
+        private double weight;
+
+        @BoolArgument("--verbose")
+        private boolean verbose;
+    }
+
+    @Param({"none", "statistics"})
+    private String listener;
+
+    private final String[] args = {"--port", "8080", "--timeout", "30000", "--weight", "0.75", "--verbose"};
+
+    private CompiledParser<Target> parser;
+
+    private ParseStatistics statistics;
+
+    @Setup
+    public void setup() {
+        parser = ArgumentParser.compile(Target.class);
+        if (listener.equals("statistics")) {
+            statistics = new ParseStatistics();
+            ArgumentParser.addListener(statistics);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (statistics != null) {
+            ArgumentParser.removeListener(statistics);
+        }
+    }
+
+    @Benchmark
+    public Target parse() throws Exception {
+        return parser.parse(args);
+    }
+}
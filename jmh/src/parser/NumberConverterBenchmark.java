@@ -0,0 +1,73 @@
+package parser;
+
+import org.openjdk.jmh.annotations.*;
+import parser.convert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/// Run with -prof gc: the converter benchmarks must show gc.alloc.rate.norm of 0 bytes per operation,
+/// the jdk benchmarks show the cost of creating a string for every value
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberConverterBenchmark {
+
+    private final StringBuilder intToken = new StringBuilder("1234567");
+
+    private final StringBuilder longToken = new StringBuilder("9876543210123");
+
+    private final StringBuilder doubleToken = new StringBuilder("12345.678");
+
+    private final StringBuilder sizeToken = new StringBuilder("64k");
+
+    private final byte[] bytes = "--count 1234567 --ratio 12345.678".getBytes(StandardCharsets.US_ASCII);
+
+    private final ByteSlice slice = new ByteSlice();
+
+    private final IntConverter intConverter = NumberConverters.intConverter(false, false, false);
+
+    private final LongConverter longConverter = NumberConverters.longConverter(false, false, false);
+
+    private final LongConverter sizeConverter = NumberConverters.longConverter(false, false, true);
+
+    private final DoubleConverter doubleConverter = NumberConverters.doubleConverter(false, false);
+
+    @Benchmark
+    public int jdkInt() {
+        return Integer.parseInt(intToken.toString());
+    }
+
+    @Benchmark
+    public int converterInt() {
+        return intConverter.convert(intToken);
+    }
+
+    @Benchmark
+    public long converterLong() {
+        return longConverter.convert(longToken);
+    }
+
+    @Benchmark
+    public long converterSize() {
+        return sizeConverter.convert(sizeToken);
+    }
+
+    @Benchmark
+    public double jdkDouble() {
+        return Double.parseDouble(doubleToken.toString());
+    }
+
+    @Benchmark
+    public double converterDouble() {
+        return doubleConverter.convert(doubleToken);
+    }
+
+    @Benchmark
+    public double converterBytes() {
+        return intConverter.convert(slice.reset(bytes, 8, 15)) + doubleConverter.convert(slice.reset(bytes, 24, 33));
+    }
+}
@@ -0,0 +1,76 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Run with -prof gc: gc.alloc.rate.norm of a parse must be the size of the container object only,
+/// parseInto and pooled parse must allocate nothing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseAllocationBenchmark {
+
+    public enum Route {
+        PRIMARY, SECONDARY
+    }
+
+    @Container
+    public static class Target {
+        @Argument(value = "--port", messageError = "Error in port")
+        private int port;
+
+        @Argument(value = "--timeout", messageError = "Error in timeout")
+        private long timeout;
+
+        @Argument(value = "--weight", messageError = "Error in weight")
+        @NotRequired
+        private double weight;
+
+        @EnumArgument(value = "--route", messageError = "Error in route")
+        private Route route;
+
+        @BoolArgument("--verbose")
+        private boolean verbose;
+
+        @BoolArgument(value = "--cache", def = true)
+        private boolean cache;
+    }
+
+    private final String[] args = {"--port", "8080", "--timeout", "30000", "--weight", "0.75", "--route", "SECONDARY", "--verbose"};
+
+    private CompiledParser<Target> parser;
+
+    private ContainerPool<Target> pool;
+
+    private final Target target = new Target();
+
+    @Setup
+    public void setup() {
+        parser = ArgumentParser.compile(Target.class);
+        pool = parser.pool();
+    }
+
+    @Benchmark
+    public Target parse() throws Exception {
+        return parser.parse(args);
+    }
+
+    @Benchmark
+    public Target parseInto() throws Exception {
+        return parser.parseInto(target, args);
+    }
+
+    @Benchmark
+    public int pooled() throws Exception {
+        final Target pooled = pool.parse(args);
+        final int port = pooled.port;
+        pool.release(pooled);
+        return port;
+    }
+}
@@ -0,0 +1,66 @@
+package parser;
+
+import annotations.Container;
+import annotations.fields.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/// A few hundred repeated vectors parsed by several threads, with and without ResultCache
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ResultCacheBenchmark {
+
+    @Container
+    public static class Job {
+        @Argument(value = "--name", messageError = "Error in name")
+        private String name;
+
+        @Argument(value = "--memory", messageError = "Error in memory", sizeSuffix = true)
+        private long memory;
+
+        @Argument(value = "--weight", messageError = "Error in weight")
+        private double weight;
+
+        @ListArgument(value = "--partitions", messageError = "Error in partitions", ranges = true)
+        private int[] partitions;
+    }
+
+    @Param({"300"})
+    private int vectors;
+
+    @Param({"true", "false"})
+    private boolean shared;
+
+    private String[][] args;
+
+    private CompiledParser<Job> parser;
+
+    private ResultCache<Job> cache;
+
+    @Setup
+    public void setup() {
+        parser = ArgumentParser.compile(Job.class);
+        cache = new ResultCache<>(parser, 1024, ignored -> 1, shared);
+        args = new String[vectors][];
+        for (int i = 0; i < vectors; i++) {
+            args[i] = new String[]{"--name", "job" + i, "--memory", (i + 1) + "m", "--weight", "0." + i, "--partitions", "0.." + (i % 64)};
+        }
+    }
+
+    @Benchmark
+    public Job parse() throws Exception {
+        return parser.parse(args[ThreadLocalRandom.current().nextInt(vectors)]);
+    }
+
+    @Benchmark
+    public Job cached() throws Exception {
+        return cache.parse(args[ThreadLocalRandom.current().nextInt(vectors)]);
+    }
+}
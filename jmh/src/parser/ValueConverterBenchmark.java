@@ -0,0 +1,48 @@
+package parser;
+
+import org.openjdk.jmh.annotations.*;
+import parser.convert.ValueConverter;
+import parser.convert.ValueConverters;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/// Run with -prof gc: cached converters of a repeated literal must show 0 bytes per operation,
+/// the jdk benchmarks show the cost of converting every value
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueConverterBenchmark {
+
+    private final StringBuilder durationToken = new StringBuilder("PT30S");
+
+    private final StringBuilder decimalToken = new StringBuilder("10.25");
+
+    private final ValueConverter<?> duration = ValueConverters.find(Duration.class);
+
+    private final ValueConverter<?> decimal = ValueConverters.find(BigDecimal.class);
+
+    @Benchmark
+    public Object cachedDuration() {
+        return duration.convert(durationToken);
+    }
+
+    @Benchmark
+    public Object jdkDuration() {
+        return Duration.parse(durationToken);
+    }
+
+    @Benchmark
+    public Object cachedDecimal() {
+        return decimal.convert(decimalToken);
+    }
+
+    @Benchmark
+    public Object jdkDecimal() {
+        return new BigDecimal(decimalToken.toString());
+    }
+}
@@ -5,4 +5,6 @@ import java.lang.annotation.Retention;
 
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Container {
+    /// Allows unambiguous prefixes of long keys, e.g. --verb for --verbose
+    boolean abbreviations() default false;
 }
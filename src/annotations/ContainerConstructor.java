@@ -0,0 +1,13 @@
+package annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Constructor of immutable @Container class, its parameters are the argument fields in order of declaration.
+/// The parser calls it once with all values instead of setting the fields
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface ContainerConstructor {
+}
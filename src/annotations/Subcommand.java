@@ -0,0 +1,13 @@
+package annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Name of a command and its @Container class, see @Subcommands
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface Subcommand {
+    String name();
+    Class<?> container();
+}
@@ -0,0 +1,16 @@
+package annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Commands of a @Container class: its arguments are global options given before the name of a command,
+/// the rest of the arguments are parsed by the container of the command. The container of a command may have its own @Subcommands.
+/// Only containers of the invoked commands are compiled
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Subcommands {
+    Subcommand[] value();
+    boolean required() default true;
+}
@@ -10,4 +10,16 @@ import java.lang.annotation.Target;
 public @interface Argument {
     String value();
     String messageError();
+
+    /// 0x1F form, only for int and long
+    boolean hex() default false;
+
+    /// 1_000 form, only for numbers
+    boolean underscores() default false;
+
+    /// 64k, 2g form (k, m, g, t are powers of 1024), only for numbers
+    boolean sizeSuffix() default false;
+
+    /// Class of parser.convert.ValueConverter for object field, by default the converter of the field type is used
+    Class<?> converter() default Void.class;
 }
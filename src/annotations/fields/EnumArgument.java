@@ -10,5 +10,5 @@ import java.lang.annotation.Target;
 public @interface EnumArgument {
     String value();
     String messageError();
-    MapPair[] mapping();
+    MapPair[] mapping() default {};
 }
\ No newline at end of file
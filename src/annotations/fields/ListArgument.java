@@ -0,0 +1,25 @@
+package annotations.fields;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Argument with many values: int[], long[], double[], String[] or List of Integer, Long, Double, String.
+/// The key may be repeated, values of all its tokens are joined in order
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ListArgument {
+    String value();
+    String messageError();
+
+    /// Separator of values in one token, empty separator means one value per token
+    String separator() default ",";
+
+    /// 0..1023 form (both bounds are included), only for int and long values
+    boolean ranges() default false;
+
+    /// Max number of values expanded from the ranges of int[] and long[] fields, a longer expansion is not correct value.
+    /// Lists keep ranges without expansion and are not limited
+    int maxExpanded() default 1 << 20;
+}
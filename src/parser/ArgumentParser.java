@@ -1,18 +1,28 @@
 package parser;
 
 
+import annotations.ContainerConstructor;
 import annotations.fields.*;
+import parser.convert.ValueConverter;
+import parser.convert.ValueConverters;
 import parser.exception.ArgumentParserException;
 import parser.exception.ClassNotCorrectException;
+import parser.source.TokenSource;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ArgumentParser {
 
@@ -20,7 +30,8 @@ public class ArgumentParser {
     private static final List<Class<? extends Annotation>> allAnnotations = List.of(
             Argument.class,
             BoolArgument.class,
-            EnumArgument.class
+            EnumArgument.class,
+            ListArgument.class
     );
 
 
@@ -31,17 +42,29 @@ public class ArgumentParser {
             new AbstractMap.SimpleEntry<>(double.class, Argument.class),
             new AbstractMap.SimpleEntry<>(String.class, Argument.class),
             new AbstractMap.SimpleEntry<>(boolean.class, BoolArgument.class),
-            new AbstractMap.SimpleEntry<>(Enum.class, EnumArgument.class)
+            new AbstractMap.SimpleEntry<>(Enum.class, EnumArgument.class),
+            new AbstractMap.SimpleEntry<>(int[].class, ListArgument.class),
+            new AbstractMap.SimpleEntry<>(long[].class, ListArgument.class),
+            new AbstractMap.SimpleEntry<>(double[].class, ListArgument.class),
+            new AbstractMap.SimpleEntry<>(String[].class, ListArgument.class),
+            new AbstractMap.SimpleEntry<>(List.class, ListArgument.class)
     );
 
 
-    private static final Map<Class<?>, Function<String, Object>> classToFunction = Map.ofEntries(
-            new AbstractMap.SimpleEntry<>(int.class, Integer::parseInt),
-            new AbstractMap.SimpleEntry<>(long.class, Long::parseLong),
-            new AbstractMap.SimpleEntry<>(float.class, Float::parseFloat),
-            new AbstractMap.SimpleEntry<>(double.class, Double::parseDouble),
-            new AbstractMap.SimpleEntry<>(String.class, str -> str)
-    );
+    private static final Set<Class<?>> listElements = Set.of(Integer.class, Long.class, Double.class, String.class);
+
+
+    /// Schemas are validated and indexed once per class, the ClassValue drops them with the class loader
+    private static final ClassValue<CompiledParser<?>> compiledParsers = new ClassValue<>() {
+        @Override
+        protected CompiledParser<?> computeValue(final Class<?> type) {
+            return compileClass(type);
+        }
+    };
+
+
+    /// Number of schemas compiled by the thread while a listener is registered, compile compares it to report a cache hit
+    private static final ThreadLocal<int[]> compilations = ThreadLocal.withInitial(() -> new int[1]);
 
 
     private ArgumentParser() {
@@ -55,29 +78,105 @@ public class ArgumentParser {
         }
     }
 
-    private static boolean stringIsValidEnum(final Class<?> clazz, final String str) {
-        try {
-            final Method method = clazz.getMethod("valueOf", String.class);
-            method.setAccessible(true);
-            method.invoke(null, str);
-            return true;
-
-        } catch (final InvocationTargetException ignored) {
-            return false;
-        } catch (final NoSuchMethodException | IllegalAccessException e) {
-            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+    /// Key -> enum constant table of @EnumArgument field, the first mapping of a repeated key is used.
+    /// Without mapping keys are names of the constants
+    static Map<String, Object> getEnumTable(final Field field) {
+        final EnumArgument annotation = field.getDeclaredAnnotation(EnumArgument.class);
+        final Map<String, Object> constants = new HashMap<>();
+        for (final Object constant : field.getType().getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+
+        final MapPair[] pairs = annotation.mapping();
+        if (pairs.length == 0) {
+            return Map.copyOf(constants);
+        }
+
+        final Map<String, Object> table = new HashMap<>(pairs.length);
+        for (final MapPair pair : pairs) {
+            final Object constant = constants.get(pair.enumValue());
+            if (constant == null) {
+                final String message = String.format("Enum field %s has incorrect mapping value: %s", field.getName(), pair.enumValue());
+                throw new ClassNotCorrectException(message);
+            }
+            table.putIfAbsent(pair.key(), constant);
+        }
+        return Map.copyOf(table);
+    }
+
+    /// Converter of object @Argument field: the one of Argument.converter() or the converter of the field type
+    static ValueConverter<?> getConverter(final Field field) {
+        final Argument argument = field.getDeclaredAnnotation(Argument.class);
+        final Class<?> type = field.getType();
+        if (argument.converter() == Void.class) {
+            final ValueConverter<?> converter = ValueConverters.find(type);
+            if (converter == null) {
+                final String message = String.format("Field %s has not supported type %s", field.getName(), type.getName());
+                throw new ClassNotCorrectException(message);
+            }
+            return converter;
+        }
+        if (type.isPrimitive()) {
+            final String message = String.format("Field %s of primitive type %s can't have converter", field.getName(), type.getName());
+            throw new ClassNotCorrectException(message);
+        }
+        final ValueConverter<?> converter = ValueConverters.instance(argument.converter());
+        if (!type.isAssignableFrom(converter.type())) {
+            final String message = String.format("Converter %s of field %s converts to %s, not to %s",
+                    argument.converter().getName(), field.getName(), converter.type().getName(), type.getName());
+            throw new ClassNotCorrectException(message);
+        }
+        return converter;
+    }
+
+    private static void checkConverters(final Field[] fields) {
+        for (final Field field : fields) {
+            final Argument argument = field.getDeclaredAnnotation(Argument.class);
+            if (argument != null && (!field.getType().isPrimitive() || argument.converter() != Void.class)) {
+                getConverter(field);
+            }
         }
     }
 
     private static void checkEnums(final Set<Field> fields) {
         for (final Field field : fields) {
-            final EnumArgument annotation = field.getDeclaredAnnotation(EnumArgument.class);
+            getEnumTable(field);
+        }
+    }
 
-            for (final MapPair pair : annotation.mapping()) {
-                if (!stringIsValidEnum(field.getType(), pair.enumValue())) {
-                    final String message = String.format("Enum field %s has incorrect mapping value: %s", field.getName(), pair.enumValue());
-                    throw new ClassNotCorrectException(message);
-                }
+    private static void checkNumberFormats(final Field[] fields) {
+        for (final Field field : fields) {
+            final Argument argument = field.getDeclaredAnnotation(Argument.class);
+            if (argument == null) {
+                continue;
+            }
+            final Class<?> type = field.getType();
+            final boolean isIntegral = type == int.class || type == long.class;
+            final boolean isNumber = isIntegral || type == float.class || type == double.class;
+            if (argument.hex() && !isIntegral || (argument.underscores() || argument.sizeSuffix()) && !isNumber) {
+                final String message = String.format("Field %s has number format not supported by type %s", field.getName(), type.getName());
+                throw new ClassNotCorrectException(message);
+            }
+        }
+    }
+
+    private static void checkLists(final Field[] fields) {
+        for (final Field field : fields) {
+            final ListArgument argument = field.getDeclaredAnnotation(ListArgument.class);
+            if (argument == null) {
+                continue;
+            }
+            if (field.getType() == List.class && !listElements.contains(ListBinder.getElementType(field))) {
+                final String message = String.format("List field %s must have element type Integer, Long, Double or String", field.getName());
+                throw new ClassNotCorrectException(message);
+            }
+            if (argument.ranges() && !ListBinder.isIntegral(field)) {
+                final String message = String.format("Field %s has ranges not supported by type %s", field.getName(), field.getGenericType().getTypeName());
+                throw new ClassNotCorrectException(message);
+            }
+            if (argument.maxExpanded() <= 0) {
+                final String message = String.format("Field %s must have positive maxExpanded: %d", field.getName(), argument.maxExpanded());
+                throw new ClassNotCorrectException(message);
             }
         }
     }
@@ -89,7 +188,8 @@ public class ArgumentParser {
             if (type.isEnum()) {
                 annotation = mapping.get(type.getSuperclass());
             } else {
-                annotation = mapping.get(type);
+                /// Other types are converted by ValueConverter, see checkConverters
+                annotation = mapping.getOrDefault(type, Argument.class);
             }
 
             if (!field.isAnnotationPresent(annotation)) {
@@ -98,6 +198,10 @@ public class ArgumentParser {
             }
         }
 
+        checkNumberFormats(fields);
+        checkLists(fields);
+        checkConverters(fields);
+
         final Set<Field> enumFields = Arrays.stream(fields)
                 .filter(field -> field.isAnnotationPresent(EnumArgument.class))
                 .collect(Collectors.toSet());
@@ -135,7 +239,7 @@ public class ArgumentParser {
 
 
     private static Map<String, Field> getMapStringToField(final Field[] fields) {
-        final Map<String, Field> map = new HashMap<>(fields.length);
+        final Map<String, Field> map = new LinkedHashMap<>(fields.length);
         for (final Field field : fields) {
             final String key = getKeyFromField(field);
 
@@ -150,62 +254,30 @@ public class ArgumentParser {
     }
 
 
-    private static void checkLeftFields(final Container container, final Map<String, Field> map) throws ArgumentParserException {
-        for (final Map.Entry<String, Field> pair : map.entrySet()) {
-            final Field field = pair.getValue();
-            if (field.isAnnotationPresent(BoolArgument.class)) {
-                final BoolArgument ann = field.getDeclaredAnnotation(BoolArgument.class);
-                container.flags.put(field, ann.def());
-            } else if (!field.isAnnotationPresent(NotRequired.class)) {
-                final String message = String.format("No required argument: %s\nDescription= %s", pair.getKey(), getMessageError(field));
-                throw new ArgumentParserException(message);
+    static String getMessageError(final Field field) {
+        try {
+            for (final Class<? extends Annotation> clazz : allAnnotations) {
+                if (!field.isAnnotationPresent(clazz)) {
+                    continue;
+                }
+                final Annotation annotation = field.getDeclaredAnnotation(clazz);
+                return (String) clazz.getMethod("messageError").invoke(annotation);
             }
+        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getCause());
         }
+        throw new AssertionError("Not expected error. Cause: Field not annotated");
     }
 
-    /// TODO: make normal exception for different situations
-    private static Container createContainer(final Map<String, Field> map, final String[] args) throws ArgumentParserException {
-        final Set<String> usedArguments = new HashSet<>(args.length);
-        final Container container = new Container(new HashMap<>(), new HashMap<>());
-        for (int i = 0; i < args.length; i++) {
-            final String arg = args[i];
-
-            if (!map.containsKey(arg)) {
-                throw new ArgumentParserException("No expected argument: " + arg);
-            }
-
-            if (usedArguments.contains(arg)) {
-                throw new ArgumentParserException("The argument is repeated: " + arg);
-            }
-            usedArguments.add(arg);
-
-            final Field field = map.get(arg);
-            final boolean isNotBool = field.getType() != boolean.class;
-
-            if (isNotBool && i + 1 == args.length) {
-                throw new ArgumentParserException("No value for argument: " + arg);
-            } else if (isNotBool) {
-                container.notFlags.put(field, args[++i]);
-            } else {
-                container.flags.put(field, true);
-            }
-
-            map.remove(arg);
+    private static MethodHandle getConstructor(final Class<?> clazz) {
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            throw new ClassNotCorrectException("@Container must be class");
         }
-
-        checkLeftFields(container, map);
-        return container;
-    }
-
-    private static Object createObject(final Class<?> clazz) {
         try {
             final Constructor<?> constructor = clazz.getDeclaredConstructor();
             constructor.setAccessible(true);
-            return constructor.newInstance();
-        } catch (final InstantiationException e) {
-            throw new ClassNotCorrectException("@Container must be class");
-        } catch (final InvocationTargetException e) {
-            throw new ClassNotCorrectException("Constructor of @Container mustn't throw any exceptions");
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
         } catch (final NoSuchMethodException e) {
             throw new ClassNotCorrectException("@Container must have constructor without parameters");
         } catch (final IllegalAccessException e) {
@@ -213,97 +285,211 @@ public class ArgumentParser {
         }
     }
 
-    private static String getMessageError(final Field field) {
+    /// Canonical constructor of record or constructor with @ContainerConstructor, null for mutable containers
+    private static Constructor<?> getImmutableConstructor(final Class<?> clazz) {
+        final List<Constructor<?>> annotated = Arrays.stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> constructor.isAnnotationPresent(ContainerConstructor.class))
+                .collect(Collectors.toList());
+        if (annotated.size() > 1) {
+            throw new ClassNotCorrectException("@Container must have only one constructor with @ContainerConstructor");
+        } else if (!annotated.isEmpty()) {
+            return annotated.get(0);
+        } else if (!clazz.isRecord()) {
+            return null;
+        }
+
+        final Class<?>[] types = Arrays.stream(clazz.getRecordComponents())
+                .map(RecordComponent::getType)
+                .toArray(Class<?>[]::new);
         try {
-            for (final Class<? extends Annotation> clazz : allAnnotations) {
-                if (!field.isAnnotationPresent(clazz)) {
-                    continue;
-                }
-                final Annotation annotation = field.getDeclaredAnnotation(clazz);
-                return (String) clazz.getMethod("messageError").invoke(annotation);
-            }
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new AssertionError("Not expected error. Cause: " + e.getCause());
+            return clazz.getDeclaredConstructor(types);
+        } catch (final NoSuchMethodException e) {
+            /// Record always has canonical constructor
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
         }
-        throw new AssertionError("Not expected error. Cause: Field not annotated");
     }
 
+    /// Fields passed as parameters of the immutable constructor: record components by name,
+    /// otherwise all argument fields in order of declaration
+    private static Field[] getParameterFields(final Class<?> clazz, final Constructor<?> constructor, final Field[] fields) {
+        if (!constructor.isAnnotationPresent(ContainerConstructor.class)) {
+            final RecordComponent[] components = clazz.getRecordComponents();
+            final Field[] parameters = new Field[components.length];
+            for (int i = 0; i < components.length; i++) {
+                final String name = components[i].getName();
+                parameters[i] = Arrays.stream(fields)
+                        .filter(field -> field.getName().equals(name))
+                        .findFirst()
+                        .orElseThrow(() -> new ClassNotCorrectException(String.format("Record component %s must be annotated", name)));
+            }
+            return parameters;
+        }
 
-    private static void setObjectFields(final Object obj, final Map<Field, String> map) throws ArgumentParserException {
-        for (Map.Entry<Field, String> pair : map.entrySet()) {
-            final Field field = pair.getKey();
-            final String value = pair.getValue();
-            final Class<?> type = field.getType();
-            try {
-                field.setAccessible(true);
-                if (classToFunction.containsKey(type)) {
-                    field.set(obj, classToFunction.get(type).apply(value));
-                } else {
-
-                    // Fix: Clean this piece of code...
-                    final EnumArgument ann = field.getDeclaredAnnotation(EnumArgument.class);
-                    boolean flag = true;
-                    for (final MapPair mapPair : ann.mapping()) {
-
-                        if (!value.equals(mapPair.key())) {
-                            continue;
-                        }
-
-                        try {
-                            final Method method = field.getType().getMethod("valueOf", String.class);
-                            method.setAccessible(true);
-                            field.set(obj, method.invoke(null, mapPair.enumValue()));
-                            flag = false;
-                            break;
-                        } catch (final NoSuchMethodException | InvocationTargetException e) {
-                            throw new AssertionError("Not expected error. Cause: " + e.getCause());
-                        }
-                    }
-
-                    /// Come here if value of enum flag not correct
-                    if (flag) {
-                        throw new ArgumentParserException(getMessageError(field));
-                    }
-                }
+        final Class<?>[] types = constructor.getParameterTypes();
+        boolean correct = types.length == fields.length;
+        for (int i = 0; correct && i < types.length; i++) {
+            correct = types[i] == fields[i].getType();
+        }
+        if (!correct) {
+            throw new ClassNotCorrectException("Parameters of @ContainerConstructor must be argument fields in order of declaration");
+        }
+        return fields;
+    }
 
-            } catch (final NumberFormatException ignored) {
-                final String message = String.format("%s\nValue was: %s", getMessageError(field), value);
-                throw new ArgumentParserException(message);
-            } catch (final IllegalAccessException e) {
-                /// Not expected because accessible is true
-                throw new AssertionError("Not expected error. Cause: " + e.getCause());
-            }
+    private static MethodHandle getImmutableConstructorHandle(final Class<?> clazz, final Constructor<?> constructor) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            throw new ClassNotCorrectException("@Container must be class");
+        }
+        try {
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (final IllegalAccessException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getCause());
         }
     }
 
-    private static void setObjectBooleans(final Object obj, final Map<Field, Boolean> flags) {
-        for (Map.Entry<Field, Boolean> pair : flags.entrySet()) {
-            final Field field = pair.getKey();
-            field.setAccessible(true);
-            try {
-                field.setBoolean(obj, pair.getValue());
-            } catch (final IllegalAccessException e) {
-                throw new AssertionError("Not expected error. Cause: " + e.getCause());
-            }
+    /// Reports the phase which started at start, returns the start of the next phase
+    private static long lap(final ParseListener listener, final Class<?> clazz, final ParsePhase phase, final long start) {
+        if (listener == null) {
+            return 0;
         }
+        final long now = System.nanoTime();
+        listener.phase(clazz, phase, now - start);
+        return now;
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> T parseArguments(final Class<T> clazz, final String[] args) throws ArgumentParserException {
+    private static <T> CompiledParser<T> compileClass(final Class<T> clazz) {
+        final ParseListener listener = Listeners.current();
+        long start = listener == null ? 0 : System.nanoTime();
         handleClassAnnotation(clazz);
+        start = lap(listener, clazz, ParsePhase.CLASS_CHECK, start);
         final Field[] allFields = getAllFields(clazz);
+        start = lap(listener, clazz, ParsePhase.FIELD_DISCOVERY, start);
         checkFields1(allFields);
+        start = lap(listener, clazz, ParsePhase.VALIDATION, start);
 
         final Map<String, Field> stringToField = getMapStringToField(allFields);
-        final Object obj = createObject(clazz);
+        final Constructor<?> immutable = getImmutableConstructor(clazz);
+        final CompiledParser<T> parser;
+        if (immutable == null) {
+            parser = new CompiledParser<>(clazz, getConstructor(clazz), null, stringToField);
+        } else {
+            final Field[] parameters = getParameterFields(clazz, immutable, allFields);
+            parser = new CompiledParser<>(clazz, getImmutableConstructorHandle(clazz, immutable), parameters, stringToField);
+        }
+        if (listener != null) {
+            lap(listener, clazz, ParsePhase.KEY_TABLE, start);
+            compilations.get()[0]++;
+            listener.schemaCacheMiss(clazz);
+        }
+        return parser;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledParser<T> compile(final Class<T> clazz) {
+        final ParseListener listener = Listeners.current();
+        if (listener == null) {
+            return (CompiledParser<T>) compiledParsers.get(clazz);
+        }
+        final int[] count = compilations.get();
+        final int before = count[0];
+        final CompiledParser<T> parser = (CompiledParser<T>) compiledParsers.get(clazz);
+        if (count[0] == before) {
+            listener.schemaCacheHit(clazz);
+        }
+        return parser;
+    }
+
+    /// Listener is called for every compilation and parse until it is removed, see ParseListener
+    public static void addListener(final ParseListener listener) {
+        Listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public static boolean removeListener(final ParseListener listener) {
+        return Listeners.remove(listener);
+    }
+
+    /// Generated parser of clazz is used only while no ParseListener is registered: it measures nothing,
+    /// so with listeners the parse goes through the compiled schema and is reported as any other
+    public static <T> T parseArguments(final Class<T> clazz, final String[] args) throws ArgumentParserException {
+        final GeneratedParser<T> generated = GeneratedParsers.find(clazz);
+        if (generated != null && Listeners.current() == null) {
+            return generated.parse(args);
+        }
+        return compile(clazz).parse(args);
+    }
+
+    /// Fills an existing container, see CompiledParser.parseInto
+    @SuppressWarnings("unchecked")
+    public static <T> T parseInto(final T target, final String[] args) throws ArgumentParserException {
+        return compile((Class<T>) target.getClass()).parseInto(target, args);
+    }
 
-        final Container container = createContainer(stringToField, args);
-        setObjectFields(obj, container.notFlags);
-        setObjectBooleans(obj, container.flags);
+    /// Tokens of the source are parsed without building String[], e.g. new ArgFileTokenSource(new ArrayTokenSource(args))
+    public static <T> T parseArguments(final Class<T> clazz, final TokenSource tokens) throws ArgumentParserException, IOException {
+        return compile(clazz).parse(tokens);
+    }
+
+    /// Errors in the arguments are returned in ParseResult instead of ArgumentParserException, see CompiledParser.tryParse
+    public static <T> ParseResult<T> tryParse(final Class<T> clazz, final String[] args, final boolean collectAll) {
+        return compile(clazz).tryParse(args, collectAll);
+    }
+
+    public static <T> ParseResult<T> tryParse(final Class<T> clazz, final String[] args) {
+        return compile(clazz).tryParse(args, false);
+    }
+
+    /// Container which is updated by new argument vectors with the report of changed fields, see LiveContainer
+    public static <T> LiveContainer<T> live(final Class<T> clazz, final String[] args) throws ArgumentParserException {
+        return new LiveContainer<>(compile(clazz), args);
+    }
+
+    /// Batch of argument vectors of clazz parsed into primitive columns, see ColumnBatch
+    public static <T> ColumnBatch<T> columns(final Class<T> clazz, final int capacity, final boolean offHeap) {
+        return compile(clazz).columns(capacity, offHeap);
+    }
+
+    /// Cache of parsed containers of clazz by argument vector, see ResultCache
+    public static <T> ResultCache<T> cache(final Class<T> clazz, final int maximumSize) {
+        return new ResultCache<>(compile(clazz), maximumSize);
+    }
+
+    /// Values are converted on the first access through view, see CompiledParser.parseLazy
+    public static <T, V> V parseLazy(final Class<T> clazz, final Class<V> view, final String[] args) throws ArgumentParserException {
+        return compile(clazz).parseLazy(args, view);
+    }
+
+    /// Arguments before the name of a command are parsed by clazz, the rest by the container of the command in @Subcommands.
+    /// Commands are nested while the container of the command has @Subcommands,
+    /// only the schemas of clazz and of the invoked commands are compiled
+    public static <T> CommandLine<T> parseCommand(final Class<T> clazz, final String[] args) throws ArgumentParserException {
+        final List<String> names = new ArrayList<>();
+        final List<Object> containers = new ArrayList<>();
+        Class<?> level = clazz;
+        int from = 0;
+        while (true) {
+            final CompiledParser<?> parser = compile(level);
+            final CommandTable commands = CommandTable.of(level);
+            final int end = commands == null ? args.length : parser.findCommand(args, from, commands);
+            containers.add(parser.parse(Arrays.copyOfRange(args, from, end)));
+            if (end == args.length) {
+                if (commands != null && commands.required) {
+                    throw new ArgumentParserException(String.format("No command, expected one of: %s", commands.description));
+                }
+                break;
+            }
+            names.add(args[end]);
+            level = commands.get(args[end]);
+            from = end + 1;
+        }
+        return new CommandLine<>(clazz.cast(containers.get(0)), List.copyOf(names), List.copyOf(containers));
+    }
 
-        return (T) obj;
+    public static <T> Stream<BatchItem<T>> parseAll(final Class<T> clazz, final Stream<String[]> args) {
+        return new BatchParser<>(compile(clazz)).parseAll(args);
     }
 
-    private record Container(Map<Field, String> notFlags, Map<Field, Boolean> flags) {
+    public static <T> List<BatchItem<T>> parseAll(final Class<T> clazz, final List<String[]> args, final Executor executor) {
+        return new BatchParser<>(compile(clazz)).parseAll(args, executor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package parser;
+
+/// Result of one argument vector of a batch: the parsed container or the first error, exactly one of them is not null.
+/// The error has no stack trace and its message is formatted only by ParseError.message()
+public record BatchItem<T>(T value, ParseError error) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,93 @@
+package parser;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// Parses many argument vectors of one @Container class in parallel.
+/// Errors of single vectors are reported in their BatchItem and don't abort the batch, the input order is kept.
+public final class BatchParser<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final CompiledParser<T> parser;
+
+    private final int chunkSize;
+
+
+    public BatchParser(final CompiledParser<T> parser, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.parser = parser;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchParser(final CompiledParser<T> parser) {
+        this(parser, DEFAULT_CHUNK_SIZE);
+    }
+
+    /// Errors are not thrown, so a not correct vector costs no exception and no stack trace
+    private BatchItem<T> parseItem(final String[] args) {
+        final ParseResult<T> result = parser.tryParse(args);
+        return result.isSuccess() ? new BatchItem<>(result.value(), null) : new BatchItem<>(null, result.errors().get(0));
+    }
+
+    private void parseChunk(final List<String[]> args, final BatchItem<T>[] items, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            items[i] = parseItem(args.get(i));
+        }
+    }
+
+    /// Every chunk of the list is one task of the executor, e.g. ForkJoinPool or virtual thread per task executor
+    public List<BatchItem<T>> parseAll(final List<String[]> args, final Executor executor) {
+        @SuppressWarnings("unchecked")
+        final BatchItem<T>[] items = (BatchItem<T>[]) new BatchItem<?>[args.size()];
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>(args.size() / chunkSize + 1);
+        for (int from = 0; from < items.length; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(items.length, from + chunkSize);
+            tasks.add(CompletableFuture.runAsync(() -> parseChunk(args, items, start, end), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).join();
+        } catch (final CompletionException e) {
+            /// Only not expected errors come here, errors in arguments are kept in items
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return Collections.unmodifiableList(Arrays.asList(items));
+    }
+
+    /// Lazy ordered stream. Chunks of chunkSize vectors are read one after another and the vectors of a chunk
+    /// are parsed in parallel on the common pool, so only one chunk of vectors and items is kept in memory
+    public Stream<BatchItem<T>> parseAll(final Stream<String[]> args) {
+        final Iterator<String[]> iterator = args.iterator();
+        final Spliterator<List<String[]>> chunks = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super List<String[]>> action) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                final List<String[]> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                action.accept(chunk);
+                return true;
+            }
+        };
+        return StreamSupport.stream(chunks, false)
+                .flatMap(chunk -> chunk.parallelStream().map(this::parseItem).toList().stream())
+                .onClose(args::close);
+    }
+}
@@ -0,0 +1,17 @@
+package parser;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/// Result of LiveContainer.update: the published version, containers before and after and the changed fields.
+/// Previous is not changed by the update, fields which are not in changes have the same values in both containers
+public record ChangeSet<T>(long version, T previous, T current, Map<Field, FieldChange> changes) {
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public boolean isChanged(final String fieldName) {
+        return changes.keySet().stream().anyMatch(field -> field.getName().equals(fieldName));
+    }
+}
@@ -0,0 +1,278 @@
+package parser;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+/// Values of one field in the rows of ColumnBatch. Numbers, booleans and enums are kept in memory segments:
+/// native ones allocated by the arena of the batch if it is created with offHeap, otherwise views of primitive arrays.
+/// Other values are kept in an array of references
+public abstract class Column {
+
+    private final Field field;
+
+    /// Number of rows of the batch, a row beyond it is not read
+    private int size;
+
+
+    Column(final Field field) {
+        this.field = field;
+    }
+
+    public Field field() {
+        return field;
+    }
+
+    public String name() {
+        return field.getName();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /// Writes the value of the field from row of parsed arguments to the next row of the column
+    final void append(final Slots row) {
+        write(size, row);
+        size++;
+    }
+
+    /// Removes all rows, the memory is reused
+    final void clear() {
+        clearValues(size);
+        size = 0;
+    }
+
+    /// Returns index if it is a row of the batch, otherwise throws IndexOutOfBoundsException.
+    /// Memory beyond the size holds zeros or values of cleared rows, so it is not read
+    final int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Row %d, size: %d", index, size));
+        }
+        return index;
+    }
+
+    abstract void write(int index, Slots row);
+
+    /// Drops the references kept by the first size rows
+    void clearValues(final int size) {
+    }
+
+    /// Arena is null for columns on heap
+    static Column of(final FieldBinder binder, final int capacity, final Arena arena) {
+        final Class<?> type = binder.field.getType();
+        if (binder.isList) {
+            return new ObjectColumn(binder, capacity);
+        } else if (type == int.class) {
+            return new IntColumn(binder, capacity, arena);
+        } else if (type == long.class) {
+            return new LongColumn(binder, capacity, arena);
+        } else if (type == float.class || type == double.class) {
+            return new DoubleColumn(binder, capacity, arena);
+        } else if (type == boolean.class) {
+            return new BooleanColumn(binder, capacity, arena);
+        } else if (type.isEnum()) {
+            return new EnumColumn(binder, capacity, arena);
+        }
+        return new ObjectColumn(binder, capacity);
+    }
+
+    /// Size of the segment is a long, so a native column is limited only by memory
+    private static MemorySegment ints(final int length, final Arena arena) {
+        return arena == null ? MemorySegment.ofArray(new int[length]) : arena.allocate((long) length * Integer.BYTES, Integer.BYTES);
+    }
+
+    private static MemorySegment longs(final int length, final Arena arena) {
+        return arena == null ? MemorySegment.ofArray(new long[length]) : arena.allocate((long) length * Long.BYTES, Long.BYTES);
+    }
+
+    private static MemorySegment doubles(final int length, final Arena arena) {
+        return arena == null ? MemorySegment.ofArray(new double[length]) : arena.allocate((long) length * Double.BYTES, Double.BYTES);
+    }
+
+
+    public static final class IntColumn extends Column {
+        private final int ordinal;
+
+        private final MemorySegment values;
+
+        private IntColumn(final FieldBinder binder, final int capacity, final Arena arena) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.values = ints(capacity, arena);
+        }
+
+        public int get(final int index) {
+            return values.getAtIndex(ValueLayout.JAVA_INT, checkIndex(index));
+        }
+
+        /// Read-only view of the column for all rows of the capacity, only the first size() of them are rows of the batch
+        public MemorySegment values() {
+            return values.asReadOnly();
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            values.setAtIndex(ValueLayout.JAVA_INT, index, (int) row.primitive(ordinal));
+        }
+    }
+
+    public static final class LongColumn extends Column {
+        private final int ordinal;
+
+        private final MemorySegment values;
+
+        private LongColumn(final FieldBinder binder, final int capacity, final Arena arena) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.values = longs(capacity, arena);
+        }
+
+        public long get(final int index) {
+            return values.getAtIndex(ValueLayout.JAVA_LONG, checkIndex(index));
+        }
+
+        /// Read-only view of the column for all rows of the capacity, only the first size() of them are rows of the batch
+        public MemorySegment values() {
+            return values.asReadOnly();
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            values.setAtIndex(ValueLayout.JAVA_LONG, index, row.primitive(ordinal));
+        }
+    }
+
+    /// Column of double field, values of float field are widened to double without loss
+    public static final class DoubleColumn extends Column {
+        private final int ordinal;
+
+        private final boolean isFloat;
+
+        private final MemorySegment values;
+
+        private DoubleColumn(final FieldBinder binder, final int capacity, final Arena arena) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.isFloat = binder.field.getType() == float.class;
+            this.values = doubles(capacity, arena);
+        }
+
+        public double get(final int index) {
+            return values.getAtIndex(ValueLayout.JAVA_DOUBLE, checkIndex(index));
+        }
+
+        /// Read-only view of the column for all rows of the capacity, only the first size() of them are rows of the batch
+        public MemorySegment values() {
+            return values.asReadOnly();
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            final long bits = row.primitive(ordinal);
+            values.setAtIndex(ValueLayout.JAVA_DOUBLE, index, isFloat ? Float.intBitsToFloat((int) bits) : Double.longBitsToDouble(bits));
+        }
+    }
+
+    /// Bitset of boolean field, row i is bit i % 64 of word i / 64
+    public static final class BooleanColumn extends Column {
+        private final int ordinal;
+
+        private final MemorySegment bits;
+
+        private BooleanColumn(final FieldBinder binder, final int capacity, final Arena arena) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.bits = longs((capacity + 63) >>> 6, arena);
+        }
+
+        public boolean get(final int index) {
+            return (bits.getAtIndex(ValueLayout.JAVA_LONG, checkIndex(index) >>> 6) & (1L << index)) != 0;
+        }
+
+        /// Read-only view of the words of the bitset, bits from size() are not rows of the batch
+        public MemorySegment bits() {
+            return bits.asReadOnly();
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            final int word = index >>> 6;
+            final long bit = 1L << index;
+            final long old = bits.getAtIndex(ValueLayout.JAVA_LONG, word);
+            bits.setAtIndex(ValueLayout.JAVA_LONG, word, row.primitive(ordinal) != 0 ? old | bit : old & ~bit);
+        }
+    }
+
+    /// Enum field encoded by the ordinal of the constant in dictionary(), NULL_CODE if the value is absent
+    public static final class EnumColumn extends Column {
+        public static final int NULL_CODE = -1;
+
+        private final int ordinal;
+
+        private final Enum<?>[] dictionary;
+
+        private final MemorySegment codes;
+
+        private EnumColumn(final FieldBinder binder, final int capacity, final Arena arena) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.dictionary = (Enum<?>[]) binder.field.getType().getEnumConstants();
+            this.codes = ints(capacity, arena);
+        }
+
+        public int code(final int index) {
+            return codes.getAtIndex(ValueLayout.JAVA_INT, checkIndex(index));
+        }
+
+        public Enum<?> get(final int index) {
+            final int code = code(index);
+            return code == NULL_CODE ? null : dictionary[code];
+        }
+
+        public List<Enum<?>> dictionary() {
+            return Arrays.asList(dictionary.clone());
+        }
+
+        /// Read-only view of the codes for all rows of the capacity, only the first size() of them are rows of the batch
+        public MemorySegment codes() {
+            return codes.asReadOnly();
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            final Enum<?> value = (Enum<?>) row.reference(ordinal);
+            codes.setAtIndex(ValueLayout.JAVA_INT, index, value == null ? NULL_CODE : value.ordinal());
+        }
+    }
+
+    /// Strings, lists and other objects, always on heap
+    public static final class ObjectColumn extends Column {
+        private final int ordinal;
+
+        private final Object[] values;
+
+        private ObjectColumn(final FieldBinder binder, final int capacity) {
+            super(binder.field);
+            this.ordinal = binder.ordinal;
+            this.values = new Object[capacity];
+        }
+
+        public Object get(final int index) {
+            return values[checkIndex(index)];
+        }
+
+        @Override
+        void write(final int index, final Slots row) {
+            values[index] = row.reference(ordinal);
+        }
+
+        @Override
+        void clearValues(final int size) {
+            Arrays.fill(values, 0, size, null);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package parser;
+
+import java.lang.foreign.Arena;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// Rows of argument vectors of one @Container stored by columns instead of containers, e.g. to aggregate
+/// a few fields over millions of vectors. A row is parsed into reused Slots and copied to the columns,
+/// so a row allocates nothing but the values of object fields.
+/// A row with not correct arguments doesn't stop the batch: its first error is kept in the error column
+/// and the row holds the default values. The batch is not thread safe.
+/// Native memory of an off-heap batch is freed by close, then its columns can't be read
+public final class ColumnBatch<T> implements AutoCloseable {
+
+    private final CompiledParser<T> rows;
+
+    /// Columns by ordinal of the field
+    private final Column[] columns;
+
+    private final Map<String, Column> nameToColumn;
+
+    /// Values of a row without arguments: defaults of @NotRequired fields and def() of booleans
+    private final Slots defaults;
+
+    private final Slots row;
+
+    /// First error of the row, null for correct rows
+    private final ParseError[] errors;
+
+    /// Owner of the native memory of the columns, shared so a filled batch may be read by other threads. Null on heap
+    private final Arena arena;
+
+    private int size;
+
+    private int errorCount;
+
+
+    ColumnBatch(final CompiledParser<T> parser, final int capacity, final boolean offHeap) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.rows = parser.rows();
+        this.arena = offHeap ? Arena.ofShared() : null;
+        final FieldBinder[] binders = rows.getBinders();
+        this.columns = new Column[binders.length];
+        this.nameToColumn = new HashMap<>(binders.length);
+        try {
+            for (final FieldBinder binder : binders) {
+                columns[binder.ordinal] = Column.of(binder, capacity, arena);
+                nameToColumn.put(binder.field.getName(), columns[binder.ordinal]);
+            }
+        } catch (final RuntimeException | OutOfMemoryError e) {
+            close();
+            throw e;
+        }
+        this.defaults = createDefaults(parser, binders);
+        this.row = new Slots(binders.length);
+        this.errors = new ParseError[capacity];
+    }
+
+    /// Fields of mutable container get the values assigned by its constructor, fields of immutable one stay zero or null
+    private static Slots createDefaults(final CompiledParser<?> parser, final FieldBinder[] binders) {
+        final Slots result = new Slots(binders.length);
+        final Object prototype = parser.isImmutable() ? null : parser.createObject();
+        for (final FieldBinder binder : binders) {
+            try {
+                if (binder.isBoolean) {
+                    binder.setBoolean(result, binder.defaultValue);
+                } else if (prototype != null) {
+                    binder.setter.invoke(result, MethodHandles.lookup().unreflectGetter(binder.field).invoke(prototype));
+                }
+            } catch (final Throwable e) {
+                throw new AssertionError("Not expected error. Cause: " + e);
+            }
+        }
+        return result;
+    }
+
+    /// Parses args into the next row and returns its index. Errors of the arguments are not thrown, see error(index).
+    /// Throws IllegalStateException if the batch is full or closed
+    public int add(final String[] args) {
+        if (arena != null && !arena.scope().isAlive()) {
+            throw new IllegalStateException("Batch is closed");
+        }
+        if (size == errors.length) {
+            throw new IllegalStateException(String.format("Batch is full, capacity: %d", errors.length));
+        }
+        row.copyFrom(defaults);
+        final List<ParseError> result = rows.bindRow(row, args);
+        if (result != null) {
+            errors[size] = result.get(0);
+            errorCount++;
+            row.copyFrom(defaults);
+        }
+        for (final Column column : columns) {
+            column.append(row);
+        }
+        return size++;
+    }
+
+    /// Error of the row or null if its arguments are correct
+    public ParseError error(final int index) {
+        checkIndex(index);
+        return errors[index];
+    }
+
+    public boolean isValid(final int index) {
+        return error(index) == null;
+    }
+
+    /// Number of rows with errors
+    public int errorCount() {
+        return errorCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return errors.length;
+    }
+
+    public boolean isFull() {
+        return size == errors.length;
+    }
+
+    public boolean isOffHeap() {
+        return arena != null;
+    }
+
+    /// Removes all rows, the memory of the columns is reused
+    public void clear() {
+        for (final Column column : columns) {
+            column.clear();
+        }
+        Arrays.fill(errors, 0, size, null);
+        size = 0;
+        errorCount = 0;
+    }
+
+    public List<Column> columns() {
+        return List.of(columns);
+    }
+
+    /// Column of the field with name, throws IllegalArgumentException if the container has no such field
+    public Column column(final String name) {
+        final Column column = nameToColumn.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException(String.format("No column %s in %s", name, rows.getContainerClass().getName()));
+        }
+        return column;
+    }
+
+    /// Column of the field with name, e.g. column("port", Column.IntColumn.class)
+    public <C extends Column> C column(final String name, final Class<C> type) {
+        final Column column = column(name);
+        if (!type.isInstance(column)) {
+            final String message = String.format("Column %s is %s, not %s", name, column.getClass().getSimpleName(), type.getSimpleName());
+            throw new IllegalArgumentException(message);
+        }
+        return type.cast(column);
+    }
+
+    /// Frees the native memory of the columns, reading them afterwards throws IllegalStateException.
+    /// Does nothing for a batch on heap or a closed batch
+    @Override
+    public void close() {
+        if (arena != null && arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Row %d, size: %d", index, size));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package parser;
+
+import java.util.List;
+
+/// Result of ArgumentParser.parseCommand: options - the container of the global options,
+/// names - names of the invoked commands in the order they were given,
+/// containers - the container of the global options and the containers of the commands in the same order
+public record CommandLine<T>(T options, List<String> names, List<Object> containers) {
+
+    /// Container of the last invoked command or options if no command was given
+    public Object command() {
+        return containers.get(containers.size() - 1);
+    }
+
+    public <C> C command(final Class<C> clazz) {
+        return clazz.cast(command());
+    }
+}
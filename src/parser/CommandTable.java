@@ -0,0 +1,59 @@
+package parser;
+
+import annotations.Subcommand;
+import annotations.Subcommands;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/// Names of the commands of one @Container class with @Subcommands. The table is built on the first use of the class,
+/// containers of the commands are not validated until a command is invoked
+final class CommandTable {
+
+    private static final ClassValue<CommandTable> tables = new ClassValue<>() {
+        @Override
+        protected CommandTable computeValue(final Class<?> type) {
+            final Subcommands subcommands = type.getDeclaredAnnotation(Subcommands.class);
+            return subcommands == null ? null : new CommandTable(subcommands);
+        }
+    };
+
+    private final KeyTable<Class<?>> names;
+
+    final boolean required;
+
+    /// Names joined for the message of a missing command
+    final String description;
+
+
+    private CommandTable(final Subcommands subcommands) {
+        final Map<String, Class<?>> map = new HashMap<>(subcommands.value().length);
+        for (final Subcommand subcommand : subcommands.value()) {
+            if (subcommand.name().isEmpty()) {
+                throw new ClassNotCorrectException("Name of subcommand can't be empty");
+            }
+            if (map.put(subcommand.name(), subcommand.container()) != null) {
+                final String message = String.format("Subcommands can't have same names: %s", subcommand.name());
+                throw new ClassNotCorrectException(message);
+            }
+        }
+        this.names = new KeyTable<>(map);
+        this.required = subcommands.required();
+        this.description = Arrays.stream(subcommands.value())
+                .map(Subcommand::name)
+                .collect(Collectors.joining(", "));
+    }
+
+    /// Null if the class has no @Subcommands
+    static CommandTable of(final Class<?> clazz) {
+        return tables.get(clazz);
+    }
+
+    /// Container of the command or null
+    Class<?> get(final CharSequence name) {
+        return names.get(name);
+    }
+}
@@ -0,0 +1,766 @@
+package parser;
+
+import annotations.Container;
+import parser.convert.CharSlice;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import parser.source.ArrayTokenSource;
+import parser.source.TokenSource;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/// Validated and indexed schema of one @Container class.
+/// Instances are immutable and may be shared between threads.
+public final class CompiledParser<T> {
+
+    private final Class<T> clazz;
+
+    /// ()Object constructor of mutable container, null for immutable one
+    private final MethodHandle constructor;
+
+    /// (Slots)Object constructor of record or class with @ContainerConstructor, null for mutable container
+    private final MethodHandle slotConstructor;
+
+    private final KeyMatcher keys;
+
+    /// Binders by ordinal
+    private final FieldBinder[] binders;
+
+    /// Binders of @ListArgument fields, their values are written when the arguments end
+    private final ListBinder[] listBinders;
+
+    /// Number of longs in the bitset of seen arguments
+    private final int words;
+
+    /// True if a field holds an array or a list, a deep copy of immutable container must not share them
+    private final boolean mutableValues;
+
+    /// Lazy view interface -> its accessors, see parseLazy
+    private final ClassValue<LazyView> views = new ClassValue<>() {
+        @Override
+        protected LazyView computeValue(final Class<?> type) {
+            return new LazyView(CompiledParser.this, type);
+        }
+    };
+
+    /// (Object)void setters of declared defaults of @NotRequired fields by ordinal, null for other fields, created on the first use
+    private volatile MethodHandle[] resetters;
+
+    /// Targets of parseInto reused by threads, created on the first call of pool()
+    private volatile ContainerPool<T> pool;
+
+    /// Parser of this schema which writes to Slots, for rows of ColumnBatch, created on the first call of rows()
+    private volatile CompiledParser<T> rows;
+
+    /// Reused state of parses on the current thread, so a parse allocates only the container and String values
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(this::createScratch);
+
+
+    /// Parameters are fields passed to the constructor of immutable container, null for mutable container
+    CompiledParser(final Class<T> clazz, final MethodHandle constructor, final Field[] parameters, final Map<String, Field> stringToField) {
+        this.clazz = clazz;
+        final Map<String, FieldBinder> keyToBinder = new HashMap<>(stringToField.size());
+        this.binders = new FieldBinder[stringToField.size()];
+        for (final Map.Entry<String, Field> pair : stringToField.entrySet()) {
+            final int ordinal = keyToBinder.size();
+            binders[ordinal] = FieldBinder.of(ordinal, pair.getKey(), pair.getValue(), parameters != null);
+            keyToBinder.put(pair.getKey(), binders[ordinal]);
+        }
+        this.keys = new KeyMatcher(keyToBinder, clazz.getDeclaredAnnotation(Container.class).abbreviations());
+        this.listBinders = Arrays.stream(binders)
+                .filter(binder -> binder.isList)
+                .toArray(ListBinder[]::new);
+        this.words = (binders.length + 63) >>> 6;
+        this.mutableValues = Arrays.stream(binders)
+                .anyMatch(binder -> binder.field.getType().isArray() || binder.field.getType() == List.class);
+
+        if (parameters == null) {
+            this.constructor = constructor;
+            this.slotConstructor = null;
+        } else {
+            final Map<Field, Integer> ordinals = new HashMap<>(binders.length);
+            for (final FieldBinder binder : binders) {
+                ordinals.put(binder.field, binder.ordinal);
+            }
+            this.constructor = null;
+            this.slotConstructor = Slots.constructor(constructor, Arrays.stream(parameters).mapToInt(ordinals::get).toArray());
+        }
+    }
+
+    /// Parser of the same schema whose binders write to Slots, see rows(). It has neither constructor nor createObject
+    private CompiledParser(final CompiledParser<T> source) {
+        this.clazz = source.clazz;
+        this.constructor = null;
+        this.slotConstructor = null;
+        this.keys = source.keys;
+        this.binders = new FieldBinder[source.binders.length];
+        for (final FieldBinder binder : source.binders) {
+            binders[binder.ordinal] = FieldBinder.of(binder.ordinal, binder.key, binder.field, true);
+        }
+        this.listBinders = Arrays.stream(binders)
+                .filter(binder -> binder.isList)
+                .toArray(ListBinder[]::new);
+        this.words = source.words;
+        this.mutableValues = source.mutableValues;
+    }
+
+    public Class<T> getContainerClass() {
+        return clazz;
+    }
+
+    private Scratch createScratch() {
+        final Slots slots = slotConstructor == null ? null : new Slots(binders.length);
+        return new Scratch(new long[words], createBuffers(), slots, new ArrayTokenSource(new String[0]), new CharSlice());
+    }
+
+    /// Buffers by ordinal, null for fields which are not lists
+    private ListBinder.Buffer[] createBuffers() {
+        final ListBinder.Buffer[] buffers = new ListBinder.Buffer[binders.length];
+        for (final ListBinder binder : listBinders) {
+            buffers[binder.ordinal] = new ListBinder.Buffer();
+        }
+        return buffers;
+    }
+
+    private void clearBuffers(final ListBinder.Buffer[] buffers) {
+        for (final ListBinder binder : listBinders) {
+            buffers[binder.ordinal].clear();
+        }
+    }
+
+    /// A list fails only if it has too many values
+    private List<ParseError> finishLists(final Object obj, final long[] seen, final ListBinder.Buffer[] buffers,
+                                         List<ParseError> errors, final boolean collectAll) {
+        for (final ListBinder binder : listBinders) {
+            if ((seen[binder.ordinal >>> 6] & (1L << binder.ordinal)) == 0) {
+                continue;
+            }
+            try {
+                binder.finish(obj, buffers[binder.ordinal]);
+            } catch (final IllegalArgumentException ignored) {
+                errors = addError(errors, new ParseError(ErrorCode.INVALID_VALUE, binder.key, -1, binder.field, null));
+                if (!collectAll) {
+                    return errors;
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static List<ParseError> addError(final List<ParseError> errors, final ParseError error) {
+        final List<ParseError> result = errors == null ? new ArrayList<>() : errors;
+        result.add(error);
+        return result;
+    }
+
+    /// Bits which are not set in seen are arguments absent in the command line
+    private List<ParseError> checkLeftFields(final Object obj, final long[] seen, List<ParseError> errors, final boolean collectAll) {
+        for (int word = 0; word < words; word++) {
+            final int base = word << 6;
+            long left = ~seen[word];
+            if (word == words - 1 && (binders.length & 63) != 0) {
+                left &= (1L << binders.length) - 1;
+            }
+            while (left != 0) {
+                final FieldBinder binder = binders[base + Long.numberOfTrailingZeros(left)];
+                left &= left - 1;
+                if (binder.isBoolean) {
+                    binder.setBoolean(obj, binder.defaultValue);
+                } else if (binder.required) {
+                    errors = addError(errors, new ParseError(ErrorCode.MISSING_REQUIRED, binder.key, -1, binder.field, null));
+                    if (!collectAll) {
+                        return errors;
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+
+    /// Marks binder as seen, returns true if it was already seen and may not be repeated
+    private static boolean markSeen(final long[] seen, final FieldBinder binder) {
+        final int word = binder.ordinal >>> 6;
+        final long bit = 1L << binder.ordinal;
+        final boolean repeated = (seen[word] & bit) != 0 && !binder.isList;
+        seen[word] |= bit;
+        return repeated;
+    }
+
+    /// Index of the first '=' after the first character or the length of the token
+    private static int valueSeparator(final CharSequence token) {
+        final int length = token.length();
+        for (int i = 1; i < length; i++) {
+            if (token.charAt(i) == '=') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /// Ordinal of the last flag of a cluster like -abc, where all flags before the last one are boolean.
+    /// Returns KeyMatcher.UNKNOWN if the token is not such a cluster
+    private int findCluster(final CharSequence token) {
+        final int length = token.length();
+        if (length <= 2 || token.charAt(0) != '-' || token.charAt(1) == '-') {
+            return KeyMatcher.UNKNOWN;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            final int ordinal = keys.findShort(token.charAt(i));
+            if (ordinal == KeyMatcher.UNKNOWN || !binders[ordinal].isBoolean) {
+                return KeyMatcher.UNKNOWN;
+            }
+        }
+        return keys.findShort(token.charAt(length - 1));
+    }
+
+    /// Index of the first token from "from" in key position which is not a key of this schema but a name of commands,
+    /// args.length if there is no such token. Values of keys are skipped, so a value equal to a name is not a command
+    int findCommand(final String[] args, final int from, final CommandTable commands) {
+        int i = from;
+        while (i < args.length) {
+            final String arg = args[i];
+            if (arg == null) {
+                /// Not a key and not a command, parse of the segment reports it
+                i++;
+                continue;
+            }
+            int ordinal = keys.find(arg, 0, arg.length());
+            if (ordinal == KeyMatcher.UNKNOWN) {
+                if (commands.get(arg) != null) {
+                    return i;
+                }
+                if (valueSeparator(arg) == arg.length()) {
+                    ordinal = findCluster(arg);
+                }
+            }
+            i += ordinal >= 0 && !binders[ordinal].isBoolean ? 2 : 1;
+        }
+        return args.length;
+    }
+
+    /// Tokens are consumed one by one and values are set as soon as they are read,
+    /// so a token is never kept after the next one is requested.
+    /// A key token is an exact key, an unambiguous prefix of a long key if @Container allows abbreviations,
+    /// key=value or a cluster of single character flags -abc where only the last one may take a value.
+    /// Returns null if there are no errors. Without collectAll it stops at the first error,
+    /// otherwise it skips the not correct token and goes on
+    /// With raw values are not converted but kept by ordinal for parseLazy: String or List of String for lists
+    private List<ParseError> createContainer(final Object obj, final TokenSource tokens, final long[] seen,
+                                             final ListBinder.Buffer[] buffers, final Object[] raw,
+                                             final CharSlice slice, final boolean collectAll, final Trace trace) throws IOException {
+        int position = -1;
+        try {
+            List<ParseError> errors = null;
+            CharSequence arg;
+            while ((arg = tokens.next()) != null) {
+                position++;
+                if (arg == ArrayTokenSource.NULL_TOKEN) {
+                    errors = addError(errors, new ParseError(ErrorCode.UNKNOWN_ARGUMENT, "null", position, null, null));
+                    if (!collectAll) {
+                        return errors;
+                    }
+                    continue;
+                }
+                int end = arg.length();
+                int ordinal = keys.find(arg, 0, end);
+                if (ordinal == KeyMatcher.UNKNOWN) {
+                    end = valueSeparator(arg);
+                    if (end < arg.length()) {
+                        ordinal = keys.find(arg, 0, end);
+                    } else if ((ordinal = findCluster(arg)) != KeyMatcher.UNKNOWN) {
+                        for (int i = 1; i < end - 1; i++) {
+                            final FieldBinder flag = binders[keys.findShort(arg.charAt(i))];
+                            if (markSeen(seen, flag)) {
+                                errors = addError(errors, new ParseError(ErrorCode.REPEATED_ARGUMENT, flag.key, position, flag.field, null));
+                                if (!collectAll) {
+                                    return errors;
+                                }
+                            }
+                            flag.setBoolean(obj, true);
+                        }
+                    }
+                }
+                if (ordinal < 0 || end < arg.length() && binders[ordinal].isBoolean) {
+                    final ErrorCode code = ordinal == KeyMatcher.AMBIGUOUS ? ErrorCode.AMBIGUOUS_ARGUMENT : ErrorCode.UNKNOWN_ARGUMENT;
+                    errors = addError(errors, new ParseError(code, arg.toString(), position, null, null));
+                    if (!collectAll) {
+                        return errors;
+                    }
+                    continue;
+                }
+
+                final FieldBinder binder = binders[ordinal];
+                final boolean repeated = markSeen(seen, binder);
+                if (repeated) {
+                    errors = addError(errors, new ParseError(ErrorCode.REPEATED_ARGUMENT, binder.key, position, binder.field, null));
+                    if (!collectAll) {
+                        return errors;
+                    }
+                }
+
+                if (binder.isBoolean) {
+                    binder.setBoolean(obj, true);
+                    continue;
+                }
+
+                final int keyPosition = position;
+                final CharSequence value;
+                if (end < arg.length()) {
+                    value = slice.reset(arg, end + 1, arg.length());
+                } else {
+                    value = tokens.next();
+                    if (value == null) {
+                        return addError(errors, new ParseError(ErrorCode.NO_VALUE, binder.key, position, binder.field, null));
+                    }
+                    position++;
+                    if (value == ArrayTokenSource.NULL_TOKEN) {
+                        errors = addError(errors, new ParseError(ErrorCode.NO_VALUE, binder.key, keyPosition, binder.field, null));
+                        if (!collectAll) {
+                            return errors;
+                        }
+                        continue;
+                    }
+                }
+                if (repeated) {
+                    continue;
+                }
+                if (raw != null) {
+                    addRaw(raw, binder, value.toString());
+                    continue;
+                }
+                final ErrorCode code = trace == null
+                        ? setObjectField(obj, binder, value, buffers[binder.ordinal])
+                        : trace.setObjectField(obj, binder, value, buffers[binder.ordinal]);
+                if (code != null) {
+                    errors = addError(errors, new ParseError(code, binder.key, keyPosition, binder.field, value.toString()));
+                    if (!collectAll) {
+                        return errors;
+                    }
+                }
+            }
+
+            if (trace != null) {
+                trace.finish = System.nanoTime();
+            }
+            if (raw == null) {
+                errors = finishLists(obj, seen, buffers, errors, collectAll);
+                if (errors != null && !collectAll) {
+                    return errors;
+                }
+            }
+            return checkLeftFields(obj, seen, errors, collectAll);
+        } finally {
+            if (trace != null) {
+                trace.end(position + 1);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addRaw(final Object[] raw, final FieldBinder binder, final String value) {
+        if (!binder.isList) {
+            raw[binder.ordinal] = value;
+            return;
+        }
+        if (raw[binder.ordinal] == null) {
+            raw[binder.ordinal] = new ArrayList<String>();
+        }
+        ((List<String>) raw[binder.ordinal]).add(value);
+    }
+
+    /// Converts raw value of parseLazy and sets the field of obj, returns null if the value is correct
+    @SuppressWarnings("unchecked")
+    ParseError convertRaw(final Object obj, final int ordinal, final Object raw) {
+        final FieldBinder binder = binders[ordinal];
+        if (!binder.isList) {
+            final ErrorCode code = setObjectField(obj, binder, (String) raw, null);
+            return code == null ? null : new ParseError(code, binder.key, -1, binder.field, (String) raw);
+        }
+        final ListBinder list = (ListBinder) binder;
+        final ListBinder.Buffer buffer = new ListBinder.Buffer();
+        for (final String value : (List<String>) raw) {
+            final ErrorCode code = setObjectField(obj, binder, value, buffer);
+            if (code != null) {
+                return new ParseError(code, binder.key, -1, binder.field, value);
+            }
+        }
+        try {
+            list.finish(obj, buffer);
+        } catch (final IllegalArgumentException ignored) {
+            return new ParseError(ErrorCode.INVALID_VALUE, binder.key, -1, binder.field, null);
+        }
+        return null;
+    }
+
+    /// Binders by ordinal, the array must not be changed
+    FieldBinder[] getBinders() {
+        return binders;
+    }
+
+    /// Object which binders write to: the container or Slots of immutable container, see build
+    Object createObject() {
+        if (slotConstructor != null) {
+            final Scratch state = scratch.get();
+            return state.inUse ? new Slots(binders.length) : state.slots.reset();
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (final Throwable e) {
+            throw new ClassNotCorrectException("Constructor of @Container mustn't throw any exceptions");
+        }
+    }
+
+    /// Container from the object of createObject
+    private T build(final Object obj) {
+        if (slotConstructor == null) {
+            return clazz.cast(obj);
+        }
+        try {
+            return clazz.cast((Object) slotConstructor.invokeExact((Slots) obj));
+        } catch (final Throwable e) {
+            throw new ClassNotCorrectException("Constructor of @Container mustn't throw any exceptions");
+        }
+    }
+
+    /// Returns null if the value is set. Conversion exceptions don't capture stack trace,
+    /// so a not correct value costs no more than a correct one
+    private static ErrorCode setObjectField(final Object obj, final FieldBinder binder, final CharSequence value,
+                                            final ListBinder.Buffer buffer) {
+        try {
+            if (binder.isList) {
+                ((ListBinder) binder).add(buffer, value);
+            } else {
+                binder.set(obj, value);
+            }
+            return null;
+        } catch (final NumberFormatException ignored) {
+            return ErrorCode.INVALID_NUMBER;
+        } catch (final IllegalArgumentException ignored) {
+            /// Come here if value of enum flag or range not correct
+            return ErrorCode.INVALID_VALUE;
+        }
+    }
+
+    /// Parse is measured only if a listener is registered
+    private List<ParseError> bind(final Object obj, final TokenSource tokens, final Object[] raw, final boolean collectAll) throws IOException {
+        final ParseListener listener = Listeners.current();
+        if (listener == null) {
+            return bind(obj, tokens, raw, collectAll, null);
+        }
+        final Trace trace = new Trace(listener);
+        final List<ParseError> errors = bind(obj, tokens, raw, collectAll, trace);
+        trace.report(clazz, errors);
+        return errors;
+    }
+
+    private List<ParseError> bind(final Object obj, final String[] args, final Object[] raw, final boolean collectAll) {
+        final ParseListener listener = Listeners.current();
+        if (listener == null) {
+            return bind(obj, args, raw, collectAll, null);
+        }
+        final Trace trace = new Trace(listener);
+        final List<ParseError> errors = bind(obj, args, raw, collectAll, trace);
+        trace.report(clazz, errors);
+        return errors;
+    }
+
+    private List<ParseError> bind(final Object obj, final TokenSource tokens, final Object[] raw, final boolean collectAll,
+                                  final Trace trace) throws IOException {
+        final Scratch state = scratch.get();
+        if (state.inUse) {
+            return createContainer(obj, tokens, new long[words], createBuffers(), raw, new CharSlice(), collectAll, trace);
+        }
+        state.inUse = true;
+        try {
+            Arrays.fill(state.seen, 0);
+            return createContainer(obj, tokens, state.seen, state.buffers, raw, state.slice, collectAll, trace);
+        } finally {
+            clearBuffers(state.buffers);
+            state.inUse = false;
+        }
+    }
+
+    private List<ParseError> bind(final Object obj, final String[] args, final Object[] raw, final boolean collectAll,
+                                  final Trace trace) {
+        final Scratch state = scratch.get();
+        try {
+            if (state.inUse) {
+                /// Parse started inside another parse on this thread, e.g. from the constructor of a container
+                return createContainer(obj, new ArrayTokenSource(args), new long[words], createBuffers(), raw, new CharSlice(), collectAll, trace);
+            }
+            state.inUse = true;
+            try {
+                Arrays.fill(state.seen, 0);
+                return createContainer(obj, state.arrayTokens.reset(args), state.seen, state.buffers, raw, state.slice, collectAll, trace);
+            } finally {
+                state.arrayTokens.reset(null);
+                clearBuffers(state.buffers);
+                state.inUse = false;
+            }
+        } catch (final IOException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+        }
+    }
+
+    private ParseResult<T> result(final Object obj, final List<ParseError> errors) {
+        if (errors != null) {
+            return new ParseResult<>(null, Collections.unmodifiableList(errors));
+        }
+        return new ParseResult<>(build(obj), List.of());
+    }
+
+    public T parse(final TokenSource tokens) throws ArgumentParserException, IOException {
+        final Object obj = createObject();
+        final List<ParseError> errors = bind(obj, tokens, null, false);
+        if (errors != null) {
+            throw errors.get(0).toException();
+        }
+        return build(obj);
+    }
+
+    public T parse(final String[] args) throws ArgumentParserException {
+        final Object obj = createObject();
+        final List<ParseError> errors = bind(obj, args, null, false);
+        if (errors != null) {
+            throw errors.get(0).toException();
+        }
+        return build(obj);
+    }
+
+    /// Resets target and fills it from the arguments instead of creating a new container.
+    /// @BoolArgument fields go back to def() and @NotRequired fields to the values assigned by the constructor,
+    /// the default values are read once and targets get their own copies of arrays and lists.
+    /// After an exception the content of target is not specified
+    public T parseInto(final T target, final String[] args) throws ArgumentParserException {
+        if (slotConstructor != null) {
+            throw new ClassNotCorrectException(String.format("parseInto is not supported by immutable @Container %s", clazz.getName()));
+        }
+        final Object obj = clazz.cast(target);
+        for (final FieldBinder binder : binders) {
+            resetField(obj, binder.ordinal);
+        }
+        final List<ParseError> errors = bind(obj, args, null, false);
+        if (errors != null) {
+            throw errors.get(0).toException();
+        }
+        return target;
+    }
+
+    /// Sets the declared default of @NotRequired field, other fields are not changed
+    void resetField(final Object obj, final int ordinal) {
+        final MethodHandle resetter = getResetters()[ordinal];
+        if (resetter == null) {
+            return;
+        }
+        try {
+            resetter.invokeExact(obj);
+        } catch (final Throwable e) {
+            throw new AssertionError("Not expected error. Cause: " + e);
+        }
+    }
+
+    private MethodHandle[] getResetters() {
+        MethodHandle[] result = resetters;
+        if (result == null) {
+            result = createResetters();
+            resetters = result;
+        }
+        return result;
+    }
+
+    /// Defaults are the values of the fields in a container made by the constructor,
+    /// arrays and lists among them are copied by each reset, see FieldBinder.resetter
+    private MethodHandle[] createResetters() {
+        final Object prototype = createObject();
+        final MethodHandle[] result = new MethodHandle[binders.length];
+        for (final FieldBinder binder : binders) {
+            if (binder.required || binder.isBoolean) {
+                continue;
+            }
+            try {
+                final Object value = MethodHandles.lookup().unreflectGetter(binder.field).invoke(prototype);
+                result[binder.ordinal] = binder.resetter(value);
+            } catch (final Throwable e) {
+                throw new AssertionError("Not expected error. Cause: " + e);
+            }
+        }
+        return result;
+    }
+
+    /// Per-thread pool of containers of this class for parseInto, the same pool is returned for every call
+    public ContainerPool<T> pool() {
+        if (slotConstructor != null) {
+            throw new ClassNotCorrectException(String.format("Pool is not supported by immutable @Container %s", clazz.getName()));
+        }
+        ContainerPool<T> result = pool;
+        if (result == null) {
+            synchronized (this) {
+                result = pool;
+                if (result == null) {
+                    result = new ContainerPool<>(this, ContainerPool.DEFAULT_CAPACITY);
+                    pool = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /// Copy of a container for ResultCache and LiveContainer. With deep arrays and lists are copied too,
+    /// so a caller changing them doesn't change the source. Immutable container is returned itself if there is nothing to copy
+    T copy(final T source, final boolean deep) {
+        if (slotConstructor != null && !(deep && mutableValues)) {
+            return source;
+        }
+        final Object target = slotConstructor == null ? createObject() : new Slots(binders.length);
+        for (final FieldBinder binder : binders) {
+            binder.copy(target, source, deep);
+        }
+        return build(target);
+    }
+
+    /// Parser whose binders write to Slots, binders of immutable container already do it
+    CompiledParser<T> rows() {
+        if (slotConstructor != null) {
+            return this;
+        }
+        CompiledParser<T> result = rows;
+        if (result == null) {
+            synchronized (this) {
+                result = rows;
+                if (result == null) {
+                    result = new CompiledParser<>(this);
+                    rows = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /// Binds args to row, the parser must be rows(). Returns null if there are no errors
+    List<ParseError> bindRow(final Slots row, final String[] args) {
+        return bind(row, args, null, false);
+    }
+
+    /// Batch of capacity rows of this schema stored by columns, see ColumnBatch
+    public ColumnBatch<T> columns(final int capacity, final boolean offHeap) {
+        return new ColumnBatch<>(this, capacity, offHeap);
+    }
+
+    /// New container for ContainerPool
+    T newContainer() {
+        return clazz.cast(createObject());
+    }
+
+    /// Parses without throwing on errors in the arguments, e.g. for validation of untrusted input.
+    /// With collectAll all errors of the arguments are reported, otherwise only the first one
+    public ParseResult<T> tryParse(final String[] args, final boolean collectAll) {
+        final Object obj = createObject();
+        return result(obj, bind(obj, args, null, collectAll));
+    }
+
+    public ParseResult<T> tryParse(final String[] args) {
+        return tryParse(args, false);
+    }
+
+    public ParseResult<T> tryParse(final TokenSource tokens, final boolean collectAll) throws IOException {
+        final Object obj = createObject();
+        return result(obj, bind(obj, tokens, null, collectAll));
+    }
+
+    /// Checks keys, repeated and required arguments like parse, but values are converted on the first call
+    /// of their accessor in view. View is an interface with methods named as fields of the container (x(), getX() or isX()),
+    /// it may extend LazyContainer for validateAll(). Values are converted once, the view may be shared between threads.
+    /// An accessor throws ArgumentParserException if it is declared, otherwise ArgumentValueException
+    public <V> V parseLazy(final String[] args, final Class<V> view) throws ArgumentParserException {
+        if (slotConstructor != null) {
+            throw new ClassNotCorrectException(String.format("Lazy view is not supported by immutable @Container %s", clazz.getName()));
+        }
+        final LazyView lazyView = views.get(view);
+        final Object obj = createObject();
+        return view.cast(lazyView.newInstance(obj, bindRaw(obj, args)));
+    }
+
+    /// Checks the arguments like parse and sets booleans of obj, other values are returned by ordinal without conversion,
+    /// null for absent arguments
+    Object[] bindRaw(final Object obj, final String[] args) throws ArgumentParserException {
+        final Object[] raw = new Object[binders.length];
+        final List<ParseError> errors = bind(obj, args, raw, false);
+        if (errors != null) {
+            throw errors.get(0).toException();
+        }
+        return raw;
+    }
+
+    boolean isImmutable() {
+        return slotConstructor != null;
+    }
+
+    /// Timings of one parse, created only if a listener is registered
+    private static final class Trace {
+        private final ParseListener listener;
+
+        private final long start = System.nanoTime();
+
+        /// Start of FINISH, 0 if the parse stopped before
+        private long finish;
+
+        private long end;
+
+        private int tokens;
+
+        private Trace(final ParseListener listener) {
+            this.listener = listener;
+        }
+
+        private ErrorCode setObjectField(final Object obj, final FieldBinder binder, final CharSequence value,
+                                         final ListBinder.Buffer buffer) {
+            final long before = System.nanoTime();
+            final ErrorCode code = CompiledParser.setObjectField(obj, binder, value, buffer);
+            listener.fieldConverted(binder.field, System.nanoTime() - before, code);
+            return code;
+        }
+
+        private void end(final int tokens) {
+            this.end = System.nanoTime();
+            this.tokens = tokens;
+        }
+
+        private void report(final Class<?> clazz, final List<ParseError> errors) {
+            listener.phase(clazz, ParsePhase.BIND, (finish == 0 ? end : finish) - start);
+            if (finish != 0) {
+                listener.phase(clazz, ParsePhase.FINISH, end - finish);
+            }
+            listener.parsed(clazz, tokens, errors == null ? List.of() : errors);
+        }
+    }
+
+    private static final class Scratch {
+        private final long[] seen;
+
+        private final ListBinder.Buffer[] buffers;
+
+        /// Only for immutable container
+        private final Slots slots;
+
+        private final ArrayTokenSource arrayTokens;
+
+        /// Value of a key=value token
+        private final CharSlice slice;
+
+        private boolean inUse;
+
+        private Scratch(final long[] seen, final ListBinder.Buffer[] buffers, final Slots slots, final ArrayTokenSource arrayTokens,
+                        final CharSlice slice) {
+            this.seen = seen;
+            this.buffers = buffers;
+            this.slots = slots;
+            this.arrayTokens = arrayTokens;
+            this.slice = slice;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+import java.util.ArrayDeque;
+
+/// Containers of one @Container class reused by parseInto, so a parse in a loop creates no container.
+/// Each thread has its own stack of free containers, a container may be released on any thread.
+/// At most capacity containers are kept by a thread, the rest are left to the garbage collector
+public final class ContainerPool<T> {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final CompiledParser<T> parser;
+
+    private final int capacity;
+
+    private final ThreadLocal<ArrayDeque<T>> free;
+
+
+    public ContainerPool(final CompiledParser<T> parser, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Capacity of pool must be positive, was: %d", capacity));
+        }
+        this.parser = parser;
+        this.capacity = capacity;
+        this.free = ThreadLocal.withInitial(() -> new ArrayDeque<>(capacity));
+    }
+
+    /// Free container of the current thread or a new one. Its fields are reset only by parse
+    public T acquire() {
+        final T container = free.get().pollLast();
+        return container == null ? parser.newContainer() : container;
+    }
+
+    /// Returns the container to the pool of the current thread, it must not be used after that
+    public void release(final T container) {
+        final ArrayDeque<T> stack = free.get();
+        if (stack.size() < capacity) {
+            stack.addLast(parser.getContainerClass().cast(container));
+        }
+    }
+
+    /// Acquired container filled by CompiledParser.parseInto, it goes back to the pool if the arguments are not correct
+    public T parse(final String[] args) throws ArgumentParserException {
+        final T container = acquire();
+        try {
+            return parser.parseInto(container, args);
+        } catch (final ArgumentParserException e) {
+            release(container);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package parser;
+
+/// Kind of error in the arguments
+public enum ErrorCode {
+    /// Key is not declared in the @Container class
+    UNKNOWN_ARGUMENT,
+    /// Key is a prefix of several keys of a @Container with abbreviations
+    AMBIGUOUS_ARGUMENT,
+    REPEATED_ARGUMENT,
+    /// Key is the last token or is followed by a null element, but its field needs a value
+    NO_VALUE,
+    /// Required field has no key in the arguments
+    MISSING_REQUIRED,
+    /// Value can't be converted to the number type of the field
+    INVALID_NUMBER,
+    /// Value is not a key of the enum mapping
+    INVALID_VALUE
+}
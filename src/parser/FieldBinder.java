@@ -0,0 +1,348 @@
+package parser;
+
+import annotations.fields.Argument;
+import annotations.fields.BoolArgument;
+import annotations.fields.ListArgument;
+import annotations.fields.NotRequired;
+import parser.convert.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/// Typed setter of one @Container field, the method handle is resolved once when the schema is compiled.
+/// Primitive fields are written with invokeExact without boxing.
+abstract class FieldBinder {
+
+    /// Dense index of the field in its schema, position in the bitsets of the parser
+    final int ordinal;
+
+    final String key;
+
+    final Field field;
+
+    final MethodHandle setter;
+
+    /// Field of the container for copy. Var handles of all fields share their code, unlike method handles
+    /// which are compiled one by one, so a copy of a large container doesn't run hundreds of cold handles
+    final VarHandle handle;
+
+    /// True if copy writes the target with the handle: the target is the container and the field is not final
+    final boolean writable;
+
+    final boolean isBoolean;
+
+    /// Key of @ListArgument may be repeated, its values are collected by ListBinder
+    final boolean isList;
+
+    final boolean required;
+
+    /// BoolArgument.def() for boolean fields
+    final boolean defaultValue;
+
+
+    FieldBinder(final int ordinal, final String key, final Field field, final boolean slots, final Class<?> valueType) {
+        this.ordinal = ordinal;
+        this.key = key;
+        this.field = field;
+        this.isBoolean = field.getType() == boolean.class;
+        this.isList = field.isAnnotationPresent(ListArgument.class);
+        this.required = !isBoolean && !field.isAnnotationPresent(NotRequired.class);
+        final BoolArgument boolArgument = field.getDeclaredAnnotation(BoolArgument.class);
+        this.defaultValue = boolArgument != null && boolArgument.def();
+        try {
+            field.setAccessible(true);
+            this.handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectVarHandle(field);
+            this.writable = !slots && !Modifier.isFinal(field.getModifiers());
+            if (slots) {
+                /// Values of immutable containers are written to Slots and passed to the constructor, rows of ColumnBatch are read from them
+                this.setter = Slots.setter(ordinal, valueType);
+                return;
+            }
+            this.setter = MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, valueType));
+        } catch (final IllegalAccessException e) {
+            /// Not expected because accessible is true
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+        }
+    }
+
+    /// With slots the binder writes to Slots instead of the field
+    static FieldBinder of(final int ordinal, final String key, final Field field, final boolean slots) {
+        final Class<?> type = field.getType();
+        final Argument argument = field.getDeclaredAnnotation(Argument.class);
+        if (field.isAnnotationPresent(ListArgument.class)) {
+            return ListBinder.of(ordinal, key, field, slots);
+        } else if (type == int.class) {
+            return new IntBinder(ordinal, key, field, slots, NumberConverters.intConverter(argument.hex(), argument.underscores(), argument.sizeSuffix()));
+        } else if (type == long.class) {
+            return new LongBinder(ordinal, key, field, slots, NumberConverters.longConverter(argument.hex(), argument.underscores(), argument.sizeSuffix()));
+        } else if (type == float.class) {
+            return new FloatBinder(ordinal, key, field, slots, NumberConverters.floatConverter(argument.underscores(), argument.sizeSuffix()));
+        } else if (type == double.class) {
+            return new DoubleBinder(ordinal, key, field, slots, NumberConverters.doubleConverter(argument.underscores(), argument.sizeSuffix()));
+        } else if (type == boolean.class) {
+            return new BooleanBinder(ordinal, key, field, slots);
+        }
+        if (type.isEnum()) {
+            return new EnumBinder(ordinal, key, field, slots, new KeyTable<>(ArgumentParser.getEnumTable(field)));
+        }
+        return new ObjectBinder(ordinal, key, field, slots, ArgumentParser.getConverter(field));
+    }
+
+    /// Thrown for not correct values of enums and ranges. It is shared and has neither message nor stack trace,
+    /// so an error in untrusted input costs no allocation
+    static final IllegalArgumentException NOT_CORRECT_VALUE = new IllegalArgumentException() {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    };
+
+    private static final MethodHandle COPY_VALUE = findCopyValue();
+
+    private static MethodHandle findCopyValue() {
+        try {
+            return MethodHandles.lookup().findVirtual(FieldBinder.class, "copyValue", MethodType.methodType(Object.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+        }
+    }
+
+    private static AssertionError notExpected(final Throwable e) {
+        return new AssertionError("Not expected error. Cause: " + e);
+    }
+
+    /// Converts value and writes it to the target, value may be a reused buffer and is not kept.
+    /// Throws NumberFormatException if value is not correct number and IllegalArgumentException for other not correct values
+    void set(final Object target, final CharSequence value) {
+        throw new AssertionError("Not expected error. Cause: Field " + field.getName() + " can't be set from string");
+    }
+
+    void setBoolean(final Object target, final boolean value) {
+        throw new AssertionError("Not expected error. Cause: Field " + field.getName() + " is not boolean");
+    }
+
+    void setObject(final Object target, final Object value) {
+        throw new AssertionError("Not expected error. Cause: Field " + field.getName() + " is primitive");
+    }
+
+    /// Writes the value of the field of source to the target. Deep copy clones arrays and copies lists,
+    /// except the immutable lists of ListBinder. Slots and final fields are written by the setter with boxing
+    final void copy(final Object target, final Object source, final boolean deep) {
+        if (writable) {
+            copyField(target, source, deep);
+            return;
+        }
+        final Object value = handle.get(source);
+        try {
+            setter.invoke(target, deep ? copyValue(value) : value);
+        } catch (final Throwable e) {
+            throw notExpected(e);
+        }
+    }
+
+    /// Copies a writable field with the handle, primitive binders override it to copy without boxing
+    void copyField(final Object target, final Object source, final boolean deep) {
+        handle.set(target, deep ? copyValue(handle.get(source)) : handle.get(source));
+    }
+
+    /// Copy of a mutable value of the field: a clone of an array or an ArrayList with the elements of a list,
+    /// if the field can hold an ArrayList. Other values are returned themselves
+    private Object copyValue(final Object value) {
+        if (value instanceof List<?> list) {
+            return field.getType().isAssignableFrom(ArrayList.class) ? ListBinder.copy(list) : value;
+        }
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        final int length = Array.getLength(value);
+        final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    /// Handle (Object)void which writes the default value to a container. Arrays and lists are copied by every call,
+    /// so containers reset to the same default don't share them
+    MethodHandle resetter(final Object value) {
+        if (copyValue(value) == value) {
+            return MethodHandles.insertArguments(setter, 1, value);
+        }
+        return MethodHandles.collectArguments(setter, 1, COPY_VALUE.bindTo(this).bindTo(value));
+    }
+
+
+    private static final class IntBinder extends FieldBinder {
+        private final IntConverter converter;
+
+        IntBinder(final int ordinal, final String key, final Field field, final boolean slots, final IntConverter converter) {
+            super(ordinal, key, field, slots, int.class);
+            this.converter = converter;
+        }
+
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final int parsed = converter.convert(value);
+            try {
+                setter.invokeExact(target, parsed);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+
+        @Override
+        void copyField(final Object target, final Object source, final boolean deep) {
+            handle.set(target, (int) handle.get(source));
+        }
+    }
+
+    private static final class LongBinder extends FieldBinder {
+        private final LongConverter converter;
+
+        LongBinder(final int ordinal, final String key, final Field field, final boolean slots, final LongConverter converter) {
+            super(ordinal, key, field, slots, long.class);
+            this.converter = converter;
+        }
+
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final long parsed = converter.convert(value);
+            try {
+                setter.invokeExact(target, parsed);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+
+        @Override
+        void copyField(final Object target, final Object source, final boolean deep) {
+            handle.set(target, (long) handle.get(source));
+        }
+    }
+
+    private static final class FloatBinder extends FieldBinder {
+        private final FloatConverter converter;
+
+        FloatBinder(final int ordinal, final String key, final Field field, final boolean slots, final FloatConverter converter) {
+            super(ordinal, key, field, slots, float.class);
+            this.converter = converter;
+        }
+
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final float parsed = converter.convert(value);
+            try {
+                setter.invokeExact(target, parsed);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+
+        @Override
+        void copyField(final Object target, final Object source, final boolean deep) {
+            handle.set(target, (float) handle.get(source));
+        }
+    }
+
+    private static final class DoubleBinder extends FieldBinder {
+        private final DoubleConverter converter;
+
+        DoubleBinder(final int ordinal, final String key, final Field field, final boolean slots, final DoubleConverter converter) {
+            super(ordinal, key, field, slots, double.class);
+            this.converter = converter;
+        }
+
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final double parsed = converter.convert(value);
+            try {
+                setter.invokeExact(target, parsed);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+
+        @Override
+        void copyField(final Object target, final Object source, final boolean deep) {
+            handle.set(target, (double) handle.get(source));
+        }
+    }
+
+    private static final class BooleanBinder extends FieldBinder {
+        BooleanBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots, boolean.class);
+        }
+
+        @Override
+        void setBoolean(final Object target, final boolean value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+
+        @Override
+        void copyField(final Object target, final Object source, final boolean deep) {
+            handle.set(target, (boolean) handle.get(source));
+        }
+    }
+
+    /// The converter is resolved when the schema is compiled, see ArgumentParser.getConverter
+    private static class ObjectBinder extends FieldBinder {
+        private final ValueConverter<?> converter;
+
+        ObjectBinder(final int ordinal, final String key, final Field field, final boolean slots, final ValueConverter<?> converter) {
+            super(ordinal, key, field, slots, Object.class);
+            this.converter = converter;
+        }
+
+        /// Any other exception of a user converter is a not correct value too, it must not escape the parser
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final Object converted;
+            try {
+                converted = converter.convert(value);
+            } catch (final IllegalArgumentException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                throw NOT_CORRECT_VALUE;
+            }
+            setObject(target, converted);
+        }
+
+        @Override
+        void setObject(final Object target, final Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (final Throwable e) {
+                throw notExpected(e);
+            }
+        }
+    }
+
+    /// Enum constants are resolved once, a value costs one probe of the table without creating a string
+    private static final class EnumBinder extends ObjectBinder {
+        private final KeyTable<Object> table;
+
+        EnumBinder(final int ordinal, final String key, final Field field, final boolean slots, final KeyTable<Object> table) {
+            super(ordinal, key, field, slots, null);
+            this.table = table;
+        }
+
+        @Override
+        void set(final Object target, final CharSequence value) {
+            final Object constant = table.get(value);
+            if (constant == null) {
+                throw NOT_CORRECT_VALUE;
+            }
+            setObject(target, constant);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package parser;
+
+import java.lang.reflect.Field;
+
+/// Value of a field before and after LiveContainer.update, primitives are boxed
+public record FieldChange(Field field, Object oldValue, Object newValue) {
+}
@@ -0,0 +1,19 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+/// Parser generated by processor.ContainerProcessor for one @Container class.
+/// Generated parsers are registered as services and used by ArgumentParser.parseArguments instead of reflection.
+/// Limits of a generated parser:
+/// - it knows only exact keys followed by separate values. A vector with key=value, a cluster of flags, a null element
+///   or an unknown key is parsed again from the start by the compiled schema, so the first such vector builds the schema
+///   with reflection and the result or the error is the same as without the processor;
+/// - only ArgumentParser.parseArguments(Class, String[]) uses it while no ParseListener is registered,
+///   tryParse, parseInto, token sources and the other methods always parse by the compiled schema;
+/// - it is not generated for classes with abbreviations, lists, converted fields or immutable containers.
+public interface GeneratedParser<T> {
+
+    Class<T> containerClass();
+
+    T parse(String[] args) throws ArgumentParserException;
+}
@@ -0,0 +1,29 @@
+package parser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+final class GeneratedParsers {
+
+    /// Loaded on first use, classes without generated parser fall back to reflection
+    private static final Map<Class<?>, GeneratedParser<?>> parsers = load();
+
+
+    private GeneratedParsers() {
+
+    }
+
+    private static Map<Class<?>, GeneratedParser<?>> load() {
+        final Map<Class<?>, GeneratedParser<?>> map = new HashMap<>();
+        for (final GeneratedParser<?> parser : ServiceLoader.load(GeneratedParser.class)) {
+            map.put(parser.containerClass(), parser);
+        }
+        return Map.copyOf(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedParser<T> find(final Class<T> clazz) {
+        return (GeneratedParser<T>) parsers.get(clazz);
+    }
+}
@@ -0,0 +1,108 @@
+package parser;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/// Finds the field of a key token by its characters without creating strings.
+/// Exact keys are probed in a KeyTable, prefixes of long keys are searched in the sorted keys,
+/// single character keys (-k) are indexed by the character for clusters like -abc.
+final class KeyMatcher {
+
+    static final int UNKNOWN = -1;
+
+    static final int AMBIGUOUS = -2;
+
+    private final KeyTable<FieldBinder> exact;
+
+    /// Keys starting with "--" in sorted order, null if abbreviations are not allowed
+    private final String[] longKeys;
+
+    private final int[] longOrdinals;
+
+    /// Ordinal of key "-c" by ASCII character c or UNKNOWN
+    private final int[] shortOrdinals;
+
+
+    KeyMatcher(final Map<String, FieldBinder> keyToBinder, final boolean abbreviations) {
+        this.exact = new KeyTable<>(keyToBinder);
+        this.shortOrdinals = new int[128];
+        Arrays.fill(shortOrdinals, UNKNOWN);
+        for (final FieldBinder binder : keyToBinder.values()) {
+            final String key = binder.key;
+            if (key.length() == 2 && key.charAt(0) == '-' && key.charAt(1) != '-' && key.charAt(1) < 128) {
+                shortOrdinals[key.charAt(1)] = binder.ordinal;
+            }
+        }
+
+        if (!abbreviations) {
+            this.longKeys = null;
+            this.longOrdinals = null;
+            return;
+        }
+        this.longKeys = keyToBinder.keySet().stream()
+                .filter(key -> key.startsWith("--"))
+                .sorted()
+                .toArray(String[]::new);
+        this.longOrdinals = Arrays.stream(longKeys)
+                .mapToInt(key -> keyToBinder.get(key).ordinal)
+                .toArray();
+    }
+
+    /// Ordinal of the key token[from, to): exact key or, if allowed, the only long key with this prefix.
+    /// Returns UNKNOWN or AMBIGUOUS if there is no such key
+    int find(final CharSequence token, final int from, final int to) {
+        final FieldBinder binder = exact.get(token, from, to);
+        if (binder != null) {
+            return binder.ordinal;
+        }
+        if (longKeys == null || to - from <= 2 || token.charAt(from) != '-' || token.charAt(from + 1) != '-') {
+            return UNKNOWN;
+        }
+
+        int low = 0;
+        int high = longKeys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compare(longKeys[middle], token, from, to) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == longKeys.length || !startsWith(longKeys[low], token, from, to)) {
+            return UNKNOWN;
+        }
+        if (low + 1 < longKeys.length && startsWith(longKeys[low + 1], token, from, to)) {
+            return AMBIGUOUS;
+        }
+        return longOrdinals[low];
+    }
+
+    /// Ordinal of single character key -c or UNKNOWN
+    int findShort(final char c) {
+        return c < 128 ? shortOrdinals[c] : UNKNOWN;
+    }
+
+    private static int compare(final String key, final CharSequence token, final int from, final int to) {
+        final int length = Math.min(key.length(), to - from);
+        for (int i = 0; i < length; i++) {
+            final int diff = key.charAt(i) - token.charAt(from + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key.length() - (to - from);
+    }
+
+    private static boolean startsWith(final String key, final CharSequence token, final int from, final int to) {
+        if (key.length() < to - from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (key.charAt(i - from) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package parser;
+
+import java.util.Map;
+
+/// Immutable open addressing table with String keys which is probed by any CharSequence,
+/// so tokens read into reused buffers are looked up without creating strings
+final class KeyTable<V> {
+
+    private final String[] keys;
+
+    private final Object[] values;
+
+    private final int mask;
+
+    /// 32 - log2(capacity), index of a key is the high bits of its multiplied hash
+    private final int shift;
+
+
+    KeyTable(final Map<String, ? extends V> map) {
+        int capacity = 2;
+        while (capacity < map.size() * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+
+        for (final Map.Entry<String, ? extends V> pair : map.entrySet()) {
+            int i = index(pair.getKey(), 0, pair.getKey().length());
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = pair.getKey();
+            values[i] = pair.getValue();
+        }
+    }
+
+    /// Fibonacci hashing spreads similar keys like --f1, --f2, ..., String.hashCode of them differ only in low bits
+    /// and form long probe chains
+    private int index(final CharSequence key, final int from, final int to) {
+        return (hash(key, from, to) * 0x9E3779B9) >>> shift;
+    }
+
+    /// Same as String.hashCode for equal content
+    private static int hash(final CharSequence key, final int from, final int to) {
+        int h;
+        if (key instanceof String str && from == 0 && to == str.length()) {
+            h = str.hashCode();
+        } else {
+            h = 0;
+            for (int i = from; i < to; i++) {
+                h = 31 * h + key.charAt(i);
+            }
+        }
+        return h;
+    }
+
+    private static boolean equals(final String candidate, final CharSequence key, final int from, final int to) {
+        if (candidate.length() != to - from) {
+            return false;
+        }
+        if (key instanceof String str) {
+            return candidate.regionMatches(0, str, from, to - from);
+        }
+        for (int i = from; i < to; i++) {
+            if (candidate.charAt(i - from) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    V get(final CharSequence key) {
+        return get(key, 0, key.length());
+    }
+
+    /// Value of the key key[from, to)
+    @SuppressWarnings("unchecked")
+    V get(final CharSequence key, final int from, final int to) {
+        for (int i = index(key, from, to); ; i = (i + 1) & mask) {
+            final String candidate = keys[i];
+            if (candidate == null) {
+                return null;
+            }
+            if (equals(candidate, key, from, to)) {
+                return (V) values[i];
+            }
+        }
+    }
+}
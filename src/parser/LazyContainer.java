@@ -0,0 +1,10 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+/// Super interface of lazy views, see CompiledParser.parseLazy
+public interface LazyContainer {
+
+    /// Converts all values which are not converted yet and throws for the first not correct one
+    void validateAll() throws ArgumentParserException;
+}
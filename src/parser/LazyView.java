@@ -0,0 +1,193 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+import parser.exception.ArgumentValueException;
+import parser.exception.ClassNotCorrectException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/// Accessors of one lazy view interface of a container, see CompiledParser.parseLazy.
+/// Instances of the view are proxies which convert a value on the first call of its accessor
+final class LazyView {
+
+    /// Memoized null value
+    private static final Object NULL = new Object();
+
+    private final CompiledParser<?> parser;
+
+    private final Class<?> view;
+
+    /// Field getters by ordinal
+    private final MethodHandle[] getters;
+
+    private final Map<Method, Accessor> accessors = new HashMap<>();
+
+    /// Default methods of the view, InvocationHandler.invokeDefault can't call them if the view is not public
+    private final Map<Method, MethodHandle> defaults = new HashMap<>();
+
+
+    private record Accessor(int ordinal, boolean throwsChecked) {
+    }
+
+    LazyView(final CompiledParser<?> parser, final Class<?> view) {
+        if (!view.isInterface()) {
+            throw new ClassNotCorrectException(String.format("Lazy view %s must be interface", view.getName()));
+        }
+        this.parser = parser;
+        this.view = view;
+
+        final FieldBinder[] binders = parser.getBinders();
+        this.getters = new MethodHandle[binders.length];
+        final Map<String, FieldBinder> nameToBinder = new HashMap<>(binders.length);
+        for (final FieldBinder binder : binders) {
+            nameToBinder.put(binder.field.getName(), binder);
+            try {
+                getters[binder.ordinal] = MethodHandles.lookup().unreflectGetter(binder.field)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (final IllegalAccessException e) {
+                /// Not expected because accessible is set by FieldBinder
+                throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+            }
+        }
+
+        for (final Method method : view.getMethods()) {
+            if (method.isDefault()) {
+                defaults.put(method, getDefaultMethod(method));
+                continue;
+            }
+            if (Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == LazyContainer.class) {
+                continue;
+            }
+            FieldBinder binder = nameToBinder.get(method.getName());
+            if (binder == null) {
+                binder = nameToBinder.get(getPropertyName(method.getName()));
+            }
+            if (binder == null || method.getParameterCount() != 0 || method.getReturnType() != binder.field.getType()) {
+                final String message = String.format("Method %s of %s has no argument field", method.getName(), view.getName());
+                throw new ClassNotCorrectException(message);
+            }
+            final boolean throwsChecked = Arrays.stream(method.getExceptionTypes())
+                    .anyMatch(type -> type.isAssignableFrom(ArgumentParserException.class));
+            accessors.put(method, new Accessor(binder.ordinal, throwsChecked));
+        }
+    }
+
+    private static MethodHandle getDefaultMethod(final Method method) {
+        final Class<?> declaring = method.getDeclaringClass();
+        try {
+            return MethodHandles.privateLookupIn(declaring, MethodHandles.lookup()).unreflectSpecial(method, declaring);
+        } catch (final IllegalAccessException e) {
+            final String message = String.format("Default method %s of %s is not accessible", method.getName(), declaring.getName());
+            throw new ClassNotCorrectException(message);
+        }
+    }
+
+    /// getPort -> port, isVerbose -> verbose
+    private static String getPropertyName(final String name) {
+        for (final String prefix : new String[]{"get", "is"}) {
+            if (name.length() > prefix.length() && name.startsWith(prefix) && Character.isUpperCase(name.charAt(prefix.length()))) {
+                return Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+            }
+        }
+        return name;
+    }
+
+    Object newInstance(final Object obj, final Object[] raw) {
+        return Proxy.newProxyInstance(view.getClassLoader(), new Class<?>[]{view}, new Handler(obj, raw));
+    }
+
+
+    private final class Handler implements InvocationHandler {
+        /// Container with booleans and default values, other fields are set when they are converted
+        private final Object obj;
+
+        /// Not converted values by ordinal, dropped after conversion
+        private final Object[] raw;
+
+        /// Converted values by ordinal or ParseError of not correct value
+        private final AtomicReferenceArray<Object> values;
+
+        private Handler(final Object obj, final Object[] raw) {
+            this.obj = obj;
+            this.raw = raw;
+            this.values = new AtomicReferenceArray<>(raw.length);
+        }
+
+        private Object get(final int ordinal) {
+            Object value = values.get(ordinal);
+            if (value == null) {
+                synchronized (this) {
+                    value = values.get(ordinal);
+                    if (value == null) {
+                        value = convert(ordinal);
+                        values.set(ordinal, value);
+                        raw[ordinal] = null;
+                    }
+                }
+            }
+            return value == NULL ? null : value;
+        }
+
+        private Object convert(final int ordinal) {
+            if (raw[ordinal] != null) {
+                final ParseError error = parser.convertRaw(obj, ordinal, raw[ordinal]);
+                if (error != null) {
+                    return error;
+                }
+            }
+            try {
+                final Object value = (Object) getters[ordinal].invokeExact(obj);
+                return value == null ? NULL : value;
+            } catch (final Throwable e) {
+                throw new AssertionError("Not expected error. Cause: " + e);
+            }
+        }
+
+        private void validateAll() throws ArgumentParserException {
+            for (int ordinal = 0; ordinal < raw.length; ordinal++) {
+                if (get(ordinal) instanceof ParseError error) {
+                    throw error.toException();
+                }
+            }
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "Lazy " + view.getName() + " of " + parser.getContainerClass().getName();
+                };
+            }
+            if (method.getDeclaringClass() == LazyContainer.class) {
+                validateAll();
+                return null;
+            }
+            final MethodHandle defaultMethod = defaults.get(method);
+            if (defaultMethod != null) {
+                return defaultMethod.bindTo(proxy).invokeWithArguments(args == null ? new Object[0] : args);
+            }
+
+            final Accessor accessor = accessors.get(method);
+            final Object value = get(accessor.ordinal);
+            if (value instanceof ParseError error) {
+                if (accessor.throwsChecked) {
+                    throw error.toException();
+                }
+                throw new ArgumentValueException(error.message());
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package parser;
+
+import annotations.fields.ListArgument;
+import parser.convert.NumberConverters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/// Setter of @ListArgument field. Values of all tokens of the key are collected into a Buffer
+/// and written to the field once, when the arguments end.
+/// Primitive values are kept in primitive arrays, so numbers are never boxed while parsing
+abstract class ListBinder extends FieldBinder {
+
+    /// Arrays can't be longer, see ArrayList
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final String RANGE = "..";
+
+    private final String separator;
+
+    private final boolean ranges;
+
+    private final int maxExpanded;
+
+
+    private ListBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+        super(ordinal, key, field, slots, Object.class);
+        final ListArgument argument = field.getDeclaredAnnotation(ListArgument.class);
+        this.separator = argument.separator();
+        this.ranges = argument.ranges();
+        this.maxExpanded = argument.maxExpanded();
+    }
+
+    static ListBinder of(final int ordinal, final String key, final Field field, final boolean slots) {
+        final Class<?> type = field.getType();
+        if (type == int[].class) {
+            return new IntArrayBinder(ordinal, key, field, slots);
+        } else if (type == long[].class) {
+            return new LongArrayBinder(ordinal, key, field, slots);
+        } else if (type == double[].class) {
+            return new DoubleArrayBinder(ordinal, key, field, slots);
+        } else if (type == String[].class) {
+            return new StringArrayBinder(ordinal, key, field, slots);
+        }
+
+        final Class<?> element = getElementType(field);
+        if (element == Integer.class) {
+            return new RangeListBinder(ordinal, key, field, slots, true);
+        } else if (element == Long.class) {
+            return new RangeListBinder(ordinal, key, field, slots, false);
+        } else if (element == Double.class) {
+            return new DoubleListBinder(ordinal, key, field, slots);
+        }
+        return new StringListBinder(ordinal, key, field, slots);
+    }
+
+    /// Type argument of List field or null if the field is not List of class
+    static Class<?> getElementType(final Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType type)) {
+            return null;
+        }
+        final Type argument = type.getActualTypeArguments()[0];
+        return argument instanceof Class<?> clazz ? clazz : null;
+    }
+
+    static boolean isIntegral(final Field field) {
+        final Class<?> type = field.getType();
+        final Class<?> element = getElementType(field);
+        return type == int[].class || type == long[].class || element == Integer.class || element == Long.class;
+    }
+
+    private static int indexOf(final CharSequence value, final String str, final int from, final int to) {
+        final int last = to - str.length();
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < str.length() && value.charAt(i + j) == str.charAt(j)) {
+                j++;
+            }
+            if (j == str.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    void setObject(final Object target, final Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (final Throwable e) {
+            throw new AssertionError("Not expected error. Cause: " + e);
+        }
+    }
+
+    /// Adds all values of one token.
+    /// Throws NumberFormatException if a value is not correct number and IllegalArgumentException for not correct range
+    void add(final Buffer buffer, final CharSequence value) {
+        final int length = value.length();
+        if (separator.isEmpty()) {
+            addElement(buffer, value, 0, length);
+            return;
+        }
+        int from = 0;
+        int to;
+        while ((to = indexOf(value, separator, from, length)) >= 0) {
+            addElement(buffer, value, from, to);
+            from = to + separator.length();
+        }
+        addElement(buffer, value, from, length);
+    }
+
+    private void addElement(final Buffer buffer, final CharSequence value, final int from, final int to) {
+        final int dots = ranges ? indexOf(value, RANGE, from, to) : -1;
+        if (dots < 0) {
+            addValue(buffer, value, from, to);
+            return;
+        }
+        final long start = parseBound(value, from, dots);
+        final long end = parseBound(value, dots + RANGE.length(), to);
+        if (end < start) {
+            throw NOT_CORRECT_VALUE;
+        }
+        addRange(buffer, start, end);
+    }
+
+    long parseBound(final CharSequence value, final int from, final int to) {
+        throw new AssertionError("Not expected error. Cause: Field " + field.getName() + " has no ranges");
+    }
+
+    void addRange(final Buffer buffer, final long start, final long end) {
+        throw new AssertionError("Not expected error. Cause: Field " + field.getName() + " has no ranges");
+    }
+
+    /// Counts values of a range expanded into an array, throws IllegalArgumentException if there are more than maxExpanded
+    final void expand(final Buffer buffer, final long count) {
+        if (count <= 0 || count > maxExpanded - buffer.expanded) {
+            throw NOT_CORRECT_VALUE;
+        }
+        buffer.expanded += (int) count;
+    }
+
+    abstract void addValue(Buffer buffer, CharSequence value, int from, int to);
+
+    /// Writes the collected values to the target
+    abstract void finish(Object target, Buffer buffer);
+
+
+    /// Growable storage of the values of one parse, it is reused by the parses of one thread
+    static final class Buffer {
+        private int[] ints = new int[0];
+
+        private long[] longs = new long[16];
+
+        private double[] doubles = new double[0];
+
+        private Object[] objects = new Object[0];
+
+        private int size;
+
+        /// Values of the ranges expanded into an array
+        private int expanded;
+
+        void clear() {
+            Arrays.fill(objects, 0, Math.min(size, objects.length), null);
+            size = 0;
+            expanded = 0;
+        }
+
+        /// Returns index of the first of count new values
+        private int reserve(final long count) {
+            if (count > MAX_SIZE - size) {
+                throw NOT_CORRECT_VALUE;
+            }
+            final int index = size;
+            size += (int) count;
+            return index;
+        }
+
+        private static int newLength(final int length, final int size) {
+            return (int) Math.min(MAX_SIZE, Math.max(size, 2L * length));
+        }
+
+        private void addInts(final int start, final int count) {
+            final int index = reserve(count);
+            if (size > ints.length) {
+                ints = Arrays.copyOf(ints, newLength(ints.length, size));
+            }
+            for (int i = 0; i < count; i++) {
+                ints[index + i] = start + i;
+            }
+        }
+
+        private void addLongs(final long start, final long count) {
+            final int index = reserve(count);
+            if (size > longs.length) {
+                longs = Arrays.copyOf(longs, newLength(longs.length, size));
+            }
+            for (int i = 0; i < count; i++) {
+                longs[index + i] = start + i;
+            }
+        }
+
+        private void addDouble(final double value) {
+            final int index = reserve(1);
+            if (size > doubles.length) {
+                doubles = Arrays.copyOf(doubles, newLength(doubles.length, size));
+            }
+            doubles[index] = value;
+        }
+
+        private void addObject(final Object value) {
+            final int index = reserve(1);
+            if (size > objects.length) {
+                objects = Arrays.copyOf(objects, newLength(objects.length, size));
+            }
+            objects[index] = value;
+        }
+    }
+
+
+    private static final class IntArrayBinder extends ListBinder {
+        IntArrayBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        long parseBound(final CharSequence value, final int from, final int to) {
+            return NumberConverters.parseInt(value, from, to, false, false, false);
+        }
+
+        @Override
+        void addRange(final Buffer buffer, final long start, final long end) {
+            final long count = end - start + 1;
+            expand(buffer, count);
+            buffer.addInts((int) start, (int) count);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addInts(NumberConverters.parseInt(value, from, to, false, false, false), 1);
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, Arrays.copyOf(buffer.ints, buffer.size));
+        }
+    }
+
+    private static final class LongArrayBinder extends ListBinder {
+        LongArrayBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        long parseBound(final CharSequence value, final int from, final int to) {
+            return NumberConverters.parseLong(value, from, to, false, false, false);
+        }
+
+        @Override
+        void addRange(final Buffer buffer, final long start, final long end) {
+            /// end - start + 1 overflows only for ranges which are too long anyway, expand rejects them
+            final long count = end - start + 1;
+            expand(buffer, count);
+            buffer.addLongs(start, count);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addLongs(NumberConverters.parseLong(value, from, to, false, false, false), 1);
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, Arrays.copyOf(buffer.longs, buffer.size));
+        }
+    }
+
+    private static final class DoubleArrayBinder extends ListBinder {
+        DoubleArrayBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addDouble(NumberConverters.parseDouble(value, from, to, false, false));
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, Arrays.copyOf(buffer.doubles, buffer.size));
+        }
+    }
+
+    private static final class StringArrayBinder extends ListBinder {
+        StringArrayBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addObject(value.subSequence(from, to).toString());
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, Arrays.copyOf(buffer.objects, buffer.size, String[].class));
+        }
+    }
+
+    private static final class DoubleListBinder extends ListBinder {
+        DoubleListBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addDouble(NumberConverters.parseDouble(value, from, to, false, false));
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, new DoubleList(Arrays.copyOf(buffer.doubles, buffer.size)));
+        }
+    }
+
+    private static final class StringListBinder extends ListBinder {
+        StringListBinder(final int ordinal, final String key, final Field field, final boolean slots) {
+            super(ordinal, key, field, slots);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            buffer.addObject(value.subSequence(from, to).toString());
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, new StringList(Arrays.copyOf(buffer.objects, buffer.size, String[].class)));
+        }
+    }
+
+    /// Values are kept as ranges in the buffer: pairs of first and last value, a single value is range of one.
+    /// The list expands ranges only when elements are requested, so 0..1000000 costs two longs
+    private static final class RangeListBinder extends ListBinder {
+        private final boolean ints;
+
+        RangeListBinder(final int ordinal, final String key, final Field field, final boolean slots, final boolean ints) {
+            super(ordinal, key, field, slots);
+            this.ints = ints;
+        }
+
+        @Override
+        long parseBound(final CharSequence value, final int from, final int to) {
+            return ints
+                    ? NumberConverters.parseInt(value, from, to, false, false, false)
+                    : NumberConverters.parseLong(value, from, to, false, false, false);
+        }
+
+        @Override
+        void addRange(final Buffer buffer, final long start, final long end) {
+            final int last = buffer.size - 1;
+            if (last > 0 && buffer.longs[last] != Long.MAX_VALUE && buffer.longs[last] + 1 == start) {
+                /// Continues the previous range, e.g. 1,2,3
+                buffer.longs[last] = end;
+                return;
+            }
+            buffer.addLongs(start, 1);
+            buffer.addLongs(end, 1);
+        }
+
+        @Override
+        void addValue(final Buffer buffer, final CharSequence value, final int from, final int to) {
+            final long parsed = parseBound(value, from, to);
+            addRange(buffer, parsed, parsed);
+        }
+
+        @Override
+        void finish(final Object target, final Buffer buffer) {
+            setObject(target, new RangeList<>(Arrays.copyOf(buffer.longs, buffer.size), ints));
+        }
+    }
+
+
+    /// Lists of values are immutable, so ResultCache shares them between copies of a container
+    private abstract static class ImmutableList<E> extends AbstractList<E> implements RandomAccess {
+    }
+
+    /// The list itself if ListBinder created it, otherwise its mutable copy
+    static List<?> copy(final List<?> list) {
+        return list instanceof ImmutableList<?> ? list : new ArrayList<>(list);
+    }
+
+    private static final class StringList extends ImmutableList<String> {
+        private final String[] values;
+
+        private StringList(final String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static final class DoubleList extends ImmutableList<Double> {
+        private final double[] values;
+
+        private DoubleList(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    /// Immutable list of Integer or Long values of ranges
+    private static final class RangeList<E> extends ImmutableList<E> {
+        /// First and last values of the ranges
+        private final long[] bounds;
+
+        /// Index of the first value of every range in the list
+        private final int[] offsets;
+
+        private final int size;
+
+        private final boolean ints;
+
+        private RangeList(final long[] bounds, final boolean ints) {
+            this.bounds = bounds;
+            this.ints = ints;
+            this.offsets = new int[bounds.length / 2];
+            long size = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = (int) size;
+                size += bounds[2 * i + 1] - bounds[2 * i] + 1;
+                if (size > MAX_SIZE || size <= 0) {
+                    throw NOT_CORRECT_VALUE;
+                }
+            }
+            this.size = (int) size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(final int index) {
+            Objects.checkIndex(index, size);
+            int range = Arrays.binarySearch(offsets, index);
+            if (range < 0) {
+                range = -range - 2;
+            }
+            final long value = bounds[2 * range] + (index - offsets[range]);
+            if (ints) {
+                return (E) Integer.valueOf((int) value);
+            }
+            return (E) Long.valueOf(value);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
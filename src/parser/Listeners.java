@@ -0,0 +1,83 @@
+package parser;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/// Registered ParseListeners. The parser reads current() once per parse or compile, null means nothing is measured
+final class Listeners {
+
+    private static final List<ParseListener> all = new ArrayList<>();
+
+    /// Null, the only listener or Composite of all listeners
+    private static volatile ParseListener current;
+
+
+    private Listeners() {
+
+    }
+
+    static ParseListener current() {
+        return current;
+    }
+
+    static synchronized void add(final ParseListener listener) {
+        all.add(listener);
+        update();
+    }
+
+    static synchronized boolean remove(final ParseListener listener) {
+        final boolean removed = all.remove(listener);
+        update();
+        return removed;
+    }
+
+    private static void update() {
+        if (all.isEmpty()) {
+            current = null;
+        } else if (all.size() == 1) {
+            current = all.get(0);
+        } else {
+            current = new Composite(all.toArray(ParseListener[]::new));
+        }
+    }
+
+
+    private record Composite(ParseListener[] listeners) implements ParseListener {
+
+        @Override
+        public void schemaCacheHit(final Class<?> clazz) {
+            for (final ParseListener listener : listeners) {
+                listener.schemaCacheHit(clazz);
+            }
+        }
+
+        @Override
+        public void schemaCacheMiss(final Class<?> clazz) {
+            for (final ParseListener listener : listeners) {
+                listener.schemaCacheMiss(clazz);
+            }
+        }
+
+        @Override
+        public void phase(final Class<?> clazz, final ParsePhase phase, final long nanos) {
+            for (final ParseListener listener : listeners) {
+                listener.phase(clazz, phase, nanos);
+            }
+        }
+
+        @Override
+        public void fieldConverted(final Field field, final long nanos, final ErrorCode error) {
+            for (final ParseListener listener : listeners) {
+                listener.fieldConverted(field, nanos, error);
+            }
+        }
+
+        @Override
+        public void parsed(final Class<?> clazz, final int tokens, final List<ParseError> errors) {
+            for (final ParseListener listener : listeners) {
+                listener.parsed(clazz, tokens, errors);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/// Container of settings which are reloaded from new argument vectors. An update of the same vector costs one comparison.
+/// Another vector is checked like parse, but only the values whose tokens changed are converted,
+/// other values are copied by typed getters and setters without conversion and boxing.
+/// The new container is a copy, so a reader of get() never sees a half applied update.
+/// Unchanged arrays and lists are shared between versions and must not be changed
+public final class LiveContainer<T> {
+
+    private final CompiledParser<T> parser;
+
+    /// Object getters by ordinal for the values of FieldChange
+    private final MethodHandle[] getters;
+
+    private final List<Consumer<? super ChangeSet<T>>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot<T> snapshot;
+
+
+    LiveContainer(final CompiledParser<T> parser, final String[] args) throws ArgumentParserException {
+        if (parser.isImmutable()) {
+            final String message = String.format("Live container is not supported by immutable @Container %s", parser.getContainerClass().getName());
+            throw new ClassNotCorrectException(message);
+        }
+        this.parser = parser;
+        final FieldBinder[] binders = parser.getBinders();
+        this.getters = new MethodHandle[binders.length];
+        for (final FieldBinder binder : binders) {
+            try {
+                getters[binder.ordinal] = MethodHandles.lookup().unreflectGetter(binder.field)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (final IllegalAccessException e) {
+                throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+            }
+        }
+
+        final Object obj = parser.createObject();
+        final Object[] raw = parser.bindRaw(obj, args);
+        for (int ordinal = 0; ordinal < raw.length; ordinal++) {
+            if (raw[ordinal] != null) {
+                convert(obj, ordinal, raw[ordinal]);
+            }
+        }
+        this.snapshot = new Snapshot<>(parser.getContainerClass().cast(obj), args.clone(), raw, 0);
+    }
+
+    /// The current version, it is never changed by updates
+    public T get() {
+        return snapshot.container;
+    }
+
+    public long version() {
+        return snapshot.version;
+    }
+
+    /// Subscriber is called after each update with changes, on the thread of the update
+    public void subscribe(final Consumer<? super ChangeSet<T>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public boolean unsubscribe(final Consumer<? super ChangeSet<T>> subscriber) {
+        return subscribers.remove(subscriber);
+    }
+
+    /// Publishes the container of args and returns the changes. If the arguments are not correct
+    /// the exception is thrown and the current version stays. Updates are applied one at a time
+    public synchronized ChangeSet<T> update(final String[] args) throws ArgumentParserException {
+        final Snapshot<T> old = snapshot;
+        if (Arrays.equals(old.args, args)) {
+            return new ChangeSet<>(old.version, old.container, old.container, Map.of());
+        }
+        final Object obj = parser.copy(old.container, false);
+        final Object[] raw = parser.bindRaw(obj, args);
+
+        final FieldBinder[] binders = parser.getBinders();
+        final Map<Field, FieldChange> changes = new LinkedHashMap<>();
+        for (final FieldBinder binder : binders) {
+            final int ordinal = binder.ordinal;
+            if (binder.isBoolean) {
+                /// Booleans are set by bindRaw
+                final Object oldValue = getValue(old.container, ordinal);
+                final Object newValue = getValue(obj, ordinal);
+                if (!oldValue.equals(newValue)) {
+                    changes.put(binder.field, new FieldChange(binder.field, oldValue, newValue));
+                }
+                continue;
+            }
+            if (Objects.equals(old.raw[ordinal], raw[ordinal])) {
+                continue;
+            }
+            if (raw[ordinal] == null) {
+                parser.resetField(obj, ordinal);
+            } else {
+                convert(obj, ordinal, raw[ordinal]);
+            }
+            final Object oldValue = getValue(old.container, ordinal);
+            final Object newValue = getValue(obj, ordinal);
+            /// Other spelling of the same value, e.g. 0x10 and 16, is not a change
+            if (!Objects.deepEquals(oldValue, newValue)) {
+                changes.put(binder.field, new FieldChange(binder.field, oldValue, newValue));
+            }
+        }
+
+        final T container = parser.getContainerClass().cast(obj);
+        if (changes.isEmpty()) {
+            /// Same values in other spelling, the next update is compared with this vector
+            snapshot = new Snapshot<>(old.container, args.clone(), raw, old.version);
+            return new ChangeSet<>(old.version, old.container, old.container, Map.of());
+        }
+        snapshot = new Snapshot<>(container, args.clone(), raw, old.version + 1);
+        final ChangeSet<T> changeSet = new ChangeSet<>(old.version + 1, old.container, container, Collections.unmodifiableMap(changes));
+        for (final Consumer<? super ChangeSet<T>> subscriber : subscribers) {
+            subscriber.accept(changeSet);
+        }
+        return changeSet;
+    }
+
+    private void convert(final Object obj, final int ordinal, final Object raw) throws ArgumentParserException {
+        final ParseError error = parser.convertRaw(obj, ordinal, raw);
+        if (error != null) {
+            throw error.toException();
+        }
+    }
+
+    private Object getValue(final Object obj, final int ordinal) {
+        try {
+            return (Object) getters[ordinal].invokeExact(obj);
+        } catch (final Throwable e) {
+            throw new AssertionError("Not expected error. Cause: " + e);
+        }
+    }
+
+    /// Container with the vector and the raw values it was made from
+    private record Snapshot<T>(T container, String[] args, Object[] raw, long version) {
+    }
+}
@@ -0,0 +1,32 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+import java.lang.reflect.Field;
+
+import static parser.ArgumentParser.getMessageError;
+
+/// One error in the arguments.
+/// key - the key of the argument, for UNKNOWN_ARGUMENT and AMBIGUOUS_ARGUMENT the token itself,
+/// position - index of the key token or -1 for MISSING_REQUIRED,
+/// field - the field of the key or null for UNKNOWN_ARGUMENT and AMBIGUOUS_ARGUMENT,
+/// value - the not correct value for INVALID_NUMBER and INVALID_VALUE, otherwise null.
+/// The message is formatted only when it is requested and is the same as the message of ArgumentParserException.
+public record ParseError(ErrorCode code, String key, int position, Field field, String value) {
+
+    public String message() {
+        return switch (code) {
+            case UNKNOWN_ARGUMENT -> "No expected argument: " + key;
+            case AMBIGUOUS_ARGUMENT -> "The argument is ambiguous: " + key;
+            case REPEATED_ARGUMENT -> "The argument is repeated: " + key;
+            case NO_VALUE -> "No value for argument: " + key;
+            case MISSING_REQUIRED -> String.format("No required argument: %s\nDescription= %s", key, getMessageError(field));
+            case INVALID_NUMBER -> String.format("%s\nValue was: %s", getMessageError(field), value);
+            case INVALID_VALUE -> getMessageError(field);
+        };
+    }
+
+    public ArgumentParserException toException() {
+        return new ArgumentParserException(message());
+    }
+}
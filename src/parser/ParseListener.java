@@ -0,0 +1,31 @@
+package parser;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/// Observer of schema compilation and parses, registered by ArgumentParser.addListener.
+/// Methods are called on the parsing thread and must be thread safe.
+/// Without registered listeners the parser measures nothing.
+/// While a listener is registered ArgumentParser.parseArguments doesn't use generated parsers, so their parses are reported too
+public interface ParseListener {
+
+    /// Schema of clazz was found in the cache of ArgumentParser.compile
+    default void schemaCacheHit(final Class<?> clazz) {
+    }
+
+    /// Schema of clazz was not in the cache and was compiled, its phases are reported before
+    default void schemaCacheMiss(final Class<?> clazz) {
+    }
+
+    /// Nanoseconds of one phase of compilation or parse of clazz
+    default void phase(final Class<?> clazz, final ParsePhase phase, final long nanos) {
+    }
+
+    /// Value of field was converted and set, error is null if the value is correct
+    default void fieldConverted(final Field field, final long nanos, final ErrorCode error) {
+    }
+
+    /// Parse of clazz finished, tokens is the number of read tokens, errors are empty if the parse succeeded
+    default void parsed(final Class<?> clazz, final int tokens, final List<ParseError> errors) {
+    }
+}
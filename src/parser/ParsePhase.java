@@ -0,0 +1,17 @@
+package parser;
+
+/// Phases reported to ParseListener
+public enum ParsePhase {
+    /// Check of @Container annotation of the class
+    CLASS_CHECK,
+    /// Search of annotated fields
+    FIELD_DISCOVERY,
+    /// Check of annotations, types, number formats, lists and enum mappings of the fields
+    VALIDATION,
+    /// Key table, binders and constructor handles of the schema
+    KEY_TABLE,
+    /// Reading of the arguments and conversion of their values
+    BIND,
+    /// Lists, defaults of booleans and check of required arguments after the last token
+    FINISH
+}
@@ -0,0 +1,22 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+import java.util.List;
+
+/// Result of CompiledParser.tryParse: the parsed container or the errors in the order they were found.
+/// Value is null if and only if errors are not empty
+public record ParseResult<T>(T value, List<ParseError> errors) {
+
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    /// Throws the same exception as CompiledParser.parse for the first error
+    public T orElseThrow() throws ArgumentParserException {
+        if (!errors.isEmpty()) {
+            throw errors.get(0).toException();
+        }
+        return value;
+    }
+}
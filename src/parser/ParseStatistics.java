@@ -0,0 +1,105 @@
+package parser;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/// ParseListener which sums everything in counters, e.g. for export to a metrics system.
+/// Counters are LongAdders, so threads parsing in parallel don't contend
+public final class ParseStatistics implements ParseListener {
+
+    private final LongAdder[] phaseNanos = adders(ParsePhase.values().length);
+
+    private final LongAdder[] errors = adders(ErrorCode.values().length);
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private final LongAdder parses = new LongAdder();
+
+    private final LongAdder tokens = new LongAdder();
+
+    /// Field -> {conversions, nanos}
+    private final Map<Field, LongAdder[]> fields = new ConcurrentHashMap<>();
+
+
+    private static LongAdder[] adders(final int count) {
+        final LongAdder[] result = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    @Override
+    public void schemaCacheHit(final Class<?> clazz) {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void schemaCacheMiss(final Class<?> clazz) {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void phase(final Class<?> clazz, final ParsePhase phase, final long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+    }
+
+    @Override
+    public void fieldConverted(final Field field, final long nanos, final ErrorCode error) {
+        final LongAdder[] counters = fields.computeIfAbsent(field, ignored -> adders(2));
+        counters[0].increment();
+        counters[1].add(nanos);
+    }
+
+    @Override
+    public void parsed(final Class<?> clazz, final int tokens, final List<ParseError> errors) {
+        parses.increment();
+        this.tokens.add(tokens);
+        for (final ParseError error : errors) {
+            this.errors[error.code().ordinal()].increment();
+        }
+    }
+
+    public long phaseNanos(final ParsePhase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    public long errors(final ErrorCode code) {
+        return errors[code.ordinal()].sum();
+    }
+
+    public long cacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public long parses() {
+        return parses.sum();
+    }
+
+    /// Number of tokens read by all parses
+    public long tokens() {
+        return tokens.sum();
+    }
+
+    /// Number of converted values of field
+    public long conversions(final Field field) {
+        final LongAdder[] counters = fields.get(field);
+        return counters == null ? 0 : counters[0].sum();
+    }
+
+    /// Conversion nanos by field
+    public Map<Field, Long> conversionNanos() {
+        return fields.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, pair -> pair.getValue()[1].sum()));
+    }
+}
@@ -0,0 +1,182 @@
+package parser;
+
+import parser.exception.ArgumentParserException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/// Opt-in cache of parsed containers of one class by argument vector, for workers which parse the same vectors again and again.
+/// Entries are split into stripes by the hash of the arguments, each stripe is an LRU list under its own lock,
+/// so concurrent callers contend only on the same stripe. Only successful parses are cached.
+/// Immutable containers are shared, mutable ones and immutable ones with arrays or lists are returned as copies
+/// (arrays and lists included) unless the cache is created as shared, then callers must not change them
+public final class ResultCache<T> {
+
+    private final CompiledParser<T> parser;
+
+    private final ToIntFunction<String[]> weigher;
+
+    private final boolean shared;
+
+    private final Stripe<T>[] stripes;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+
+    /// At most maximumSize vectors
+    public ResultCache(final CompiledParser<T> parser, final int maximumSize) {
+        this(parser, maximumSize, args -> 1, false);
+    }
+
+    /// Sum of weights of the cached vectors is at most maximumWeight, e.g. weigher counts the characters of the arguments.
+    /// A negative weight is not correct, parse throws IllegalArgumentException for it
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ResultCache(final CompiledParser<T> parser, final long maximumWeight, final ToIntFunction<String[]> weigher, final boolean shared) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException(String.format("Maximum weight of cache must be positive, was: %d", maximumWeight));
+        }
+        this.parser = parser;
+        this.weigher = weigher;
+        this.shared = shared;
+
+        /// A stripe must keep a few entries, otherwise LRU of a small cache degrades to random eviction
+        final long limit = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4L, maximumWeight / 16));
+        final int count = Integer.highestOneBit((int) limit);
+        this.stripes = new Stripe[count];
+        /// The remainder goes to the first stripes, so the limits of stripes sum up to maximumWeight exactly
+        final long remainder = maximumWeight % count;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(maximumWeight / count + (i < remainder ? 1 : 0));
+        }
+    }
+
+    /// Same as CompiledParser.parse, the arguments are hashed and compared in place and copied only when a result is stored
+    public T parse(final String[] args) throws ArgumentParserException {
+        final int hash = hash(args);
+        final Stripe<T> stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        final Key lookup = new Key(args, hash);
+        T value = stripe.get(lookup);
+        if (value != null) {
+            hits.increment();
+            return share(value);
+        }
+
+        misses.increment();
+        value = parser.parse(args);
+        final int weight = weigher.applyAsInt(args);
+        if (weight < 0) {
+            throw new IllegalArgumentException(String.format("Weight of arguments must not be negative, was: %d", weight));
+        }
+        final int evicted = stripe.put(new Key(args.clone(), hash), value, weight);
+        if (evicted != 0) {
+            evictions.add(evicted);
+        }
+        return share(value);
+    }
+
+    private T share(final T value) {
+        return shared ? value : parser.copy(value, true);
+    }
+
+    private static int hash(final String[] args) {
+        int h = 1;
+        for (final String arg : args) {
+            h = 31 * h + Objects.hashCode(arg);
+        }
+        return h;
+    }
+
+    public void clear() {
+        for (final Stripe<T> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public Stats stats() {
+        long size = 0;
+        long weight = 0;
+        for (final Stripe<T> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+                weight += stripe.weight;
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size, weight);
+    }
+
+    /// Counters since the creation of the cache, size and weight of the cached entries at the moment of the call
+    public record Stats(long hits, long misses, long evictions, long size, long weight) {
+
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+
+    /// Arguments with their hash, the array is not copied for lookups
+    private record Key(String[] args, int hash) {
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key other && hash == other.hash && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record Entry<T>(T value, int weight) {
+    }
+
+    private static final class Stripe<T> {
+        private final long maximumWeight;
+
+        /// Access order, the eldest entry is the least recently used
+        private final LinkedHashMap<Key, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private long weight;
+
+        private Stripe(final long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        private synchronized T get(final Key key) {
+            final Entry<T> entry = entries.get(key);
+            return entry == null ? null : entry.value();
+        }
+
+        /// Returns the number of evicted entries. An entry heavier than the stripe is not stored
+        private synchronized int put(final Key key, final T value, final int entryWeight) {
+            if (entryWeight > maximumWeight) {
+                return 0;
+            }
+            final Entry<T> old = entries.put(key, new Entry<>(value, entryWeight));
+            weight += entryWeight - (old == null ? 0 : old.weight());
+            int evicted = 0;
+            final Iterator<Map.Entry<Key, Entry<T>>> iterator = entries.entrySet().iterator();
+            while (weight > maximumWeight) {
+                weight -= iterator.next().getValue().weight();
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+    }
+}
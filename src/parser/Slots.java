@@ -0,0 +1,136 @@
+package parser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/// Values of an immutable container (record or class with @ContainerConstructor) collected before its constructor is called,
+/// and rows of ColumnBatch.
+/// Slots are indexed by ordinal of the field, primitives are kept as bits of long, so they are not boxed
+final class Slots {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final long[] primitives;
+
+    private final Object[] references;
+
+
+    Slots(final int size) {
+        this.primitives = new long[size];
+        this.references = new Object[size];
+    }
+
+    Slots reset() {
+        Arrays.fill(primitives, 0);
+        Arrays.fill(references, null);
+        return this;
+    }
+
+    void copyFrom(final Slots source) {
+        System.arraycopy(source.primitives, 0, primitives, 0, primitives.length);
+        System.arraycopy(source.references, 0, references, 0, references.length);
+    }
+
+    /// Bits of primitive value of the slot, float is kept as int bits
+    long primitive(final int index) {
+        return primitives[index];
+    }
+
+    Object reference(final int index) {
+        return references[index];
+    }
+
+    private static String suffix(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return "Object";
+        }
+        final String name = type.getName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Class<?> slotType(final Class<?> type) {
+        return type.isPrimitive() ? type : Object.class;
+    }
+
+    /// Setter of FieldBinder with type (Object slots, valueType)void
+    static MethodHandle setter(final int index, final Class<?> valueType) {
+        try {
+            final MethodHandle set = LOOKUP.findStatic(Slots.class, "set" + suffix(valueType),
+                    MethodType.methodType(void.class, Slots.class, int.class, slotType(valueType)));
+            return MethodHandles.insertArguments(set, 1, index)
+                    .asType(MethodType.methodType(void.class, Object.class, valueType));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+        }
+    }
+
+    /// Adapts constructor with parameters from the slots of indexes to type (Slots)Object
+    static MethodHandle constructor(final MethodHandle constructor, final int[] indexes) {
+        final MethodType type = constructor.type();
+        final MethodHandle[] getters = new MethodHandle[indexes.length];
+        try {
+            for (int i = 0; i < indexes.length; i++) {
+                final Class<?> parameter = type.parameterType(i);
+                final MethodHandle get = LOOKUP.findStatic(Slots.class, "get" + suffix(parameter),
+                        MethodType.methodType(slotType(parameter), Slots.class, int.class));
+                getters[i] = MethodHandles.insertArguments(get, 1, indexes[i])
+                        .asType(MethodType.methodType(parameter, Slots.class));
+            }
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new AssertionError("Not expected error. Cause: " + e.getMessage());
+        }
+        final MethodHandle filtered = MethodHandles.filterArguments(
+                constructor.asType(type.changeReturnType(Object.class)), 0, getters);
+        return MethodHandles.permuteArguments(filtered, MethodType.methodType(Object.class, Slots.class), new int[indexes.length]);
+    }
+
+    private static void setInt(final Slots slots, final int index, final int value) {
+        slots.primitives[index] = value;
+    }
+
+    private static int getInt(final Slots slots, final int index) {
+        return (int) slots.primitives[index];
+    }
+
+    private static void setLong(final Slots slots, final int index, final long value) {
+        slots.primitives[index] = value;
+    }
+
+    private static long getLong(final Slots slots, final int index) {
+        return slots.primitives[index];
+    }
+
+    private static void setFloat(final Slots slots, final int index, final float value) {
+        slots.primitives[index] = Float.floatToRawIntBits(value);
+    }
+
+    private static float getFloat(final Slots slots, final int index) {
+        return Float.intBitsToFloat((int) slots.primitives[index]);
+    }
+
+    private static void setDouble(final Slots slots, final int index, final double value) {
+        slots.primitives[index] = Double.doubleToRawLongBits(value);
+    }
+
+    private static double getDouble(final Slots slots, final int index) {
+        return Double.longBitsToDouble(slots.primitives[index]);
+    }
+
+    private static void setBoolean(final Slots slots, final int index, final boolean value) {
+        slots.primitives[index] = value ? 1 : 0;
+    }
+
+    private static boolean getBoolean(final Slots slots, final int index) {
+        return slots.primitives[index] != 0;
+    }
+
+    private static void setObject(final Slots slots, final int index, final Object value) {
+        slots.references[index] = value;
+    }
+
+    private static Object getObject(final Slots slots, final int index) {
+        return slots.references[index];
+    }
+}
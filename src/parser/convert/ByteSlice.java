@@ -0,0 +1,58 @@
+package parser.convert;
+
+import java.nio.charset.StandardCharsets;
+
+/// Reusable view of an ASCII byte range as CharSequence, lets converters parse bytes without decoding them into a string
+public final class ByteSlice implements CharSequence {
+
+    private byte[] bytes;
+
+    private int offset;
+
+    private int length;
+
+
+    public ByteSlice() {
+        this.bytes = new byte[0];
+    }
+
+    public ByteSlice(final byte[] bytes, final int from, final int to) {
+        reset(bytes, from, to);
+    }
+
+    public ByteSlice reset(final byte[] bytes, final int from, final int to) {
+        if (from < 0 || from > to || to > bytes.length) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", from, to, bytes.length));
+        }
+        this.bytes = bytes;
+        this.offset = from;
+        this.length = to - from;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (bytes[offset + index] & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", start, end, length));
+        }
+        return new ByteSlice(bytes, offset + start, offset + end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
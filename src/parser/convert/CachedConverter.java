@@ -0,0 +1,58 @@
+package parser.convert;
+
+/// Cache of the results of a cacheable converter by the text of the value. The table is direct mapped:
+/// a literal replaces the previous one of its slot, so frequent literals stay and the size is fixed.
+/// A hit compares characters and allocates nothing, slots are replaced without locks
+final class CachedConverter<T> implements ValueConverter<T> {
+
+    static final int SIZE = 256;
+
+    /// Longer values are converted without the cache
+    static final int MAX_LENGTH = 64;
+
+    private static final int SHIFT = 32 - Integer.numberOfTrailingZeros(SIZE);
+
+    private final ValueConverter<T> converter;
+
+    private final Entry<?>[] entries = new Entry<?>[SIZE];
+
+
+    CachedConverter(final ValueConverter<T> converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public Class<T> type() {
+        return converter.type();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T convert(final CharSequence value) {
+        final int length = value.length();
+        if (length > MAX_LENGTH) {
+            return converter.convert(value);
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        final int index = (hash * 0x9E3779B9) >>> SHIFT;
+        final Entry<?> entry = entries[index];
+        if (entry != null && CharSequence.compare(entry.text, value) == 0) {
+            return (T) entry.value;
+        }
+        final String text = value.toString();
+        final T result = converter.convert(text);
+        entries[index] = new Entry<>(text, result);
+        return result;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    private record Entry<T>(String text, T value) {
+    }
+}
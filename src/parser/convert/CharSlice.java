@@ -0,0 +1,52 @@
+package parser.convert;
+
+/// Reusable view of a range of another CharSequence, e.g. the value of a --key=value token, so it is converted without a substring
+public final class CharSlice implements CharSequence {
+
+    private CharSequence chars;
+
+    private int offset;
+
+    private int length;
+
+
+    public CharSlice() {
+        this.chars = "";
+    }
+
+    public CharSlice reset(final CharSequence chars, final int from, final int to) {
+        if (from < 0 || from > to || to > chars.length()) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", from, to, chars.length()));
+        }
+        this.chars = chars;
+        this.offset = from;
+        this.length = to - from;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return chars.charAt(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", start, end, length));
+        }
+        return chars.subSequence(offset + start, offset + end);
+    }
+
+    @Override
+    public String toString() {
+        return chars.subSequence(offset, offset + length).toString();
+    }
+}
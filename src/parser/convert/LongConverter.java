@@ -0,0 +1,13 @@
+package parser.convert;
+
+/// Converts characters into long without boxing and without creating strings.
+/// Throws NumberFormatException if the characters are not correct value
+@FunctionalInterface
+public interface LongConverter {
+
+    long convert(CharSequence value, int from, int to);
+
+    default long convert(final CharSequence value) {
+        return convert(value, 0, value.length());
+    }
+}
@@ -0,0 +1,357 @@
+package parser.convert;
+
+/// Primitive converters which don't allocate on correct input.
+/// Without options they accept the same strings as Integer.parseInt, Long.parseLong, Float.parseFloat and Double.parseDouble.
+/// Options:
+/// hex - 0x1F form for int and long,
+/// underscores - 1_000 form, underscores are allowed only between digits,
+/// sizeSuffix - k, m, g, t suffix (in any case) multiplies value by 2^10, 2^20, 2^30, 2^40.
+public final class NumberConverters {
+
+    /// Exact powers of ten, used by the fast path of floating point conversion
+    private static final double[] DOUBLE_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] FLOAT_POWERS = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /// Layout of scanned decimal: mantissa (< 10^15) in bits 0-49, biased exponent in bits 50-57, sign in bit 58
+    private static final long MANTISSA_MASK = (1L << 50) - 1;
+
+    private static final int EXPONENT_SHIFT = 50;
+
+    private static final int EXPONENT_BIAS = 128;
+
+    private static final long NEGATIVE_BIT = 1L << 58;
+
+    private static final long NOT_FAST = -1;
+
+    private static final LongConverter LONG = (value, from, to) -> parseLong(value, from, to, false, false, false);
+
+    private static final IntConverter INT = (value, from, to) -> parseInt(value, from, to, false, false, false);
+
+    private static final DoubleConverter DOUBLE = (value, from, to) -> parseDouble(value, from, to, false, false);
+
+    private static final FloatConverter FLOAT = (value, from, to) -> parseFloat(value, from, to, false, false);
+
+
+    private NumberConverters() {
+
+    }
+
+    public static IntConverter intConverter(final boolean hex, final boolean underscores, final boolean sizeSuffix) {
+        if (!hex && !underscores && !sizeSuffix) {
+            return INT;
+        }
+        return (value, from, to) -> parseInt(value, from, to, hex, underscores, sizeSuffix);
+    }
+
+    public static LongConverter longConverter(final boolean hex, final boolean underscores, final boolean sizeSuffix) {
+        if (!hex && !underscores && !sizeSuffix) {
+            return LONG;
+        }
+        return (value, from, to) -> parseLong(value, from, to, hex, underscores, sizeSuffix);
+    }
+
+    public static FloatConverter floatConverter(final boolean underscores, final boolean sizeSuffix) {
+        if (!underscores && !sizeSuffix) {
+            return FLOAT;
+        }
+        return (value, from, to) -> parseFloat(value, from, to, underscores, sizeSuffix);
+    }
+
+    public static DoubleConverter doubleConverter(final boolean underscores, final boolean sizeSuffix) {
+        if (!underscores && !sizeSuffix) {
+            return DOUBLE;
+        }
+        return (value, from, to) -> parseDouble(value, from, to, underscores, sizeSuffix);
+    }
+
+    private static NumberFormatException notNumber(final CharSequence value, final int from, final int to) {
+        return new NotNumberException(value.subSequence(from, to).toString());
+    }
+
+    /// Not correct numbers are expected in untrusted input, so the exception doesn't capture stack trace
+    /// and the message is formatted only when it is requested
+    private static final class NotNumberException extends NumberFormatException {
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        private NotNumberException(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getMessage() {
+            return "For input string: \"" + value + "\"";
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /// Returns power of two of the size suffix or 0 if the char is not suffix
+    private static int suffixShift(final char c) {
+        return switch (c) {
+            case 'k', 'K' -> 10;
+            case 'm', 'M' -> 20;
+            case 'g', 'G' -> 30;
+            case 't', 'T' -> 40;
+            default -> 0;
+        };
+    }
+
+    public static int parseInt(final CharSequence value, final int from, final int to,
+                               final boolean hex, final boolean underscores, final boolean sizeSuffix) {
+        final long result = parseLong(value, from, to, hex, underscores, sizeSuffix);
+        if (result != (int) result) {
+            throw notNumber(value, from, to);
+        }
+        return (int) result;
+    }
+
+    public static long parseLong(final CharSequence value, final int from, final int to,
+                                 final boolean hex, final boolean underscores, final boolean sizeSuffix) {
+        int i = from;
+        int end = to;
+        if (i >= end) {
+            throw notNumber(value, from, to);
+        }
+
+        final char first = value.charAt(i);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            i++;
+        }
+
+        int shift = 0;
+        if (sizeSuffix && end > i) {
+            shift = suffixShift(value.charAt(end - 1));
+            if (shift != 0) {
+                end--;
+            }
+        }
+
+        int radix = 10;
+        if (hex && end - i > 2 && value.charAt(i) == '0' && (value.charAt(i + 1) | 0x20) == 'x') {
+            radix = 16;
+            i += 2;
+        }
+
+        /// Accumulates negative value like Long.parseLong, so Long.MIN_VALUE is parsed too
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+        boolean digits = false;
+        boolean underscore = false;
+        for (; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '_' && underscores && digits) {
+                underscore = true;
+                continue;
+            }
+            final int digit = c >= '0' && c <= '9' ? c - '0' : Character.digit(c, radix);
+            if (digit < 0 || result < multiplyLimit) {
+                throw notNumber(value, from, to);
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                throw notNumber(value, from, to);
+            }
+            result -= digit;
+            digits = true;
+            underscore = false;
+        }
+        if (!digits || underscore) {
+            throw notNumber(value, from, to);
+        }
+
+        if (shift != 0) {
+            if (result < (limit >> shift) || (result << shift) < limit) {
+                throw notNumber(value, from, to);
+            }
+            result <<= shift;
+        }
+        return negative ? result : -result;
+    }
+
+    public static double parseDouble(final CharSequence value, final int from, final int to,
+                                     final boolean underscores, final boolean sizeSuffix) {
+        int end = to;
+        int shift = 0;
+        if (sizeSuffix && end > from) {
+            shift = suffixShift(value.charAt(end - 1));
+            if (shift != 0) {
+                end--;
+            }
+        }
+
+        final long decimal = scanDecimal(value, from, end, underscores);
+        final int exponent = exponent(decimal);
+        double result;
+        if (decimal != NOT_FAST && Math.abs(exponent) < DOUBLE_POWERS.length) {
+            final long mantissa = mantissa(decimal);
+            result = exponent >= 0 ? mantissa * DOUBLE_POWERS[exponent] : mantissa / DOUBLE_POWERS[-exponent];
+            result = isNegative(decimal) ? -result : result;
+        } else if (canBeNumber(value, from, end)) {
+            result = Double.parseDouble(slowString(value, from, end, underscores));
+        } else {
+            throw notNumber(value, from, to);
+        }
+        return shift == 0 ? result : Math.scalb(result, shift);
+    }
+
+    public static float parseFloat(final CharSequence value, final int from, final int to,
+                                   final boolean underscores, final boolean sizeSuffix) {
+        int end = to;
+        int shift = 0;
+        if (sizeSuffix && end > from) {
+            shift = suffixShift(value.charAt(end - 1));
+            if (shift != 0) {
+                end--;
+            }
+        }
+
+        final long decimal = scanDecimal(value, from, end, underscores);
+        final int exponent = exponent(decimal);
+        float result;
+        if (decimal != NOT_FAST && mantissa(decimal) < (1 << 24) && Math.abs(exponent) < FLOAT_POWERS.length) {
+            final float mantissa = mantissa(decimal);
+            result = exponent >= 0 ? mantissa * FLOAT_POWERS[exponent] : mantissa / FLOAT_POWERS[-exponent];
+            result = isNegative(decimal) ? -result : result;
+        } else if (canBeNumber(value, from, end)) {
+            result = Float.parseFloat(slowString(value, from, end, underscores));
+        } else {
+            throw notNumber(value, from, to);
+        }
+        return shift == 0 ? result : Math.scalb(result, shift);
+    }
+
+    /// Only for values which can't be converted exactly by the fast path, e.g. NaN, 1e300, 0x1p3 or 2.5f
+    private static String slowString(final CharSequence value, final int from, final int to, final boolean underscores) {
+        if (!underscores) {
+            return value.subSequence(from, to).toString();
+        }
+        final StringBuilder builder = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c != '_') {
+                builder.append(c);
+            } else if (i == from || i + 1 == to || !Character.isDigit(value.charAt(i - 1)) || !isDigitOrUnderscore(value.charAt(i + 1))) {
+                throw notNumber(value, from, to);
+            }
+        }
+        return builder.toString();
+    }
+
+    /// Cheap check before the JDK parser, whose exception captures stack trace:
+    /// every value accepted by it starts with a digit, point, NaN or Infinity after optional sign and whitespace
+    private static boolean canBeNumber(final CharSequence value, final int from, final int to) {
+        int i = from;
+        while (i < to && value.charAt(i) <= ' ') {
+            i++;
+        }
+        if (i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == to) {
+            return false;
+        }
+        final char c = value.charAt(i);
+        return (c >= '0' && c <= '9') || c == '.' || c == 'N' || c == 'I';
+    }
+
+    private static boolean isDigitOrUnderscore(final char c) {
+        return c == '_' || Character.isDigit(c);
+    }
+
+    private static long mantissa(final long decimal) {
+        return decimal & MANTISSA_MASK;
+    }
+
+    private static int exponent(final long decimal) {
+        return (int) ((decimal >>> EXPONENT_SHIFT) & 0xff) - EXPONENT_BIAS;
+    }
+
+    private static boolean isNegative(final long decimal) {
+        return (decimal & NEGATIVE_BIT) != 0;
+    }
+
+    /// Scans plain decimal [+-]digits[.digits][(e|E)[+-]digits] and packs mantissa, exponent and sign into one long,
+    /// so the fast path doesn't allocate. Returns NOT_FAST if the value is not plain decimal or can't be converted exactly
+    private static long scanDecimal(final CharSequence value, final int from, final int to, final boolean underscores) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean underscore = false;
+        boolean point = false;
+        for (; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (mantissa != 0 || c != '0') {
+                    if (++digits > MAX_FAST_DIGITS) {
+                        return NOT_FAST;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if (point) {
+                    exponent--;
+                }
+                seenDigit = true;
+                underscore = false;
+            } else if (c == '_' && underscores && seenDigit && !point) {
+                underscore = true;
+            } else if (c == '.' && !point && !underscore) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!seenDigit || underscore) {
+            return NOT_FAST;
+        }
+
+        if (i < to) {
+            if ((value.charAt(i) | 0x20) != 'e' || ++i == to) {
+                return NOT_FAST;
+            }
+            boolean negativeExponent = false;
+            if (value.charAt(i) == '-' || value.charAt(i) == '+') {
+                negativeExponent = value.charAt(i) == '-';
+                if (++i == to) {
+                    return NOT_FAST;
+                }
+            }
+            int exponentValue = 0;
+            for (; i < to; i++) {
+                final char c = value.charAt(i);
+                if (c < '0' || c > '9' || exponentValue > EXPONENT_BIAS) {
+                    return NOT_FAST;
+                }
+                exponentValue = exponentValue * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+
+        if (Math.abs(exponent) >= EXPONENT_BIAS) {
+            return NOT_FAST;
+        }
+        return mantissa | ((long) (exponent + EXPONENT_BIAS) << EXPONENT_SHIFT) | (negative ? NEGATIVE_BIT : 0);
+    }
+}
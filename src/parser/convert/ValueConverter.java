@@ -0,0 +1,26 @@
+package parser.convert;
+
+/// Converter of @Argument values into objects of type(). Converters are found by type with ServiceLoader
+/// (META-INF/services/parser.convert.ValueConverter) or named by @Argument(converter = ...),
+/// the converter of a field is resolved once when its schema is compiled.
+/// Implementations must be thread safe and have a public constructor without parameters
+public interface ValueConverter<T> {
+
+    /// Type of the values, a field gets the converter of its exact type
+    Class<T> type();
+
+    /// Value may be a reused buffer and must not be kept.
+    /// Throws IllegalArgumentException (e.g. NumberFormatException) if the value is not correct,
+    /// other runtime exceptions are reported as not correct value of the field too
+    T convert(CharSequence value);
+
+    /// True if convert allocates nothing, e.g. returns constants. Such converters are not cached
+    default boolean isAllocationFree() {
+        return false;
+    }
+
+    /// True if equal values give equal immutable results, so the results of common literals are cached and shared
+    default boolean isCacheable() {
+        return false;
+    }
+}
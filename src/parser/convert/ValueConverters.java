@@ -0,0 +1,140 @@
+package parser.convert;
+
+import parser.exception.ClassNotCorrectException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/// Converters of object types. Built-in converters handle String, Path, Duration, Instant, BigDecimal and BigInteger,
+/// converters of ServiceLoader add other types or replace the built-in ones. Cacheable converters which allocate
+/// are wrapped into a cache of common literals
+public final class ValueConverters {
+
+    /// Converters named in @Argument(converter = ...), one instance per class
+    private static final ClassValue<ValueConverter<?>> instances = new ClassValue<>() {
+        @Override
+        protected ValueConverter<?> computeValue(final Class<?> type) {
+            return cached(newInstance(type));
+        }
+    };
+
+
+    private ValueConverters() {
+
+    }
+
+    /// Type -> converter, loaded on the first use
+    private static final class Registry {
+        private static final Map<Class<?>, ValueConverter<?>> converters = load();
+
+        private static Map<Class<?>, ValueConverter<?>> load() {
+            final Map<Class<?>, ValueConverter<?>> result = new HashMap<>();
+            /// The first provider of a type is used
+            for (final ValueConverter<?> converter : ServiceLoader.load(ValueConverter.class)) {
+                result.putIfAbsent(converter.type(), cached(converter));
+            }
+            for (final ValueConverter<?> converter : builtins()) {
+                result.putIfAbsent(converter.type(), cached(converter));
+            }
+            return Map.copyOf(result);
+        }
+    }
+
+    private static List<ValueConverter<?>> builtins() {
+        return List.of(
+                new Builtin<>(String.class, CharSequence::toString, false),
+                new Builtin<>(Path.class, value -> Path.of(value.toString()), true),
+                new Builtin<>(Duration.class, ValueConverters::parseDuration, true),
+                new Builtin<>(Instant.class, ValueConverters::parseInstant, false),
+                new Builtin<>(BigDecimal.class, value -> new BigDecimal(value.toString()), true),
+                new Builtin<>(BigInteger.class, value -> new BigInteger(value.toString()), true)
+        );
+    }
+
+    /// Converter of values of type, null if there is no converter
+    public static ValueConverter<?> find(final Class<?> type) {
+        return Registry.converters.get(type);
+    }
+
+    /// Shared instance of converter class, throws ClassNotCorrectException if it is not a correct converter
+    public static ValueConverter<?> instance(final Class<?> type) {
+        return instances.get(type);
+    }
+
+    private static ValueConverter<?> cached(final ValueConverter<?> converter) {
+        if (!converter.isCacheable() || converter.isAllocationFree() || converter instanceof CachedConverter) {
+            return converter;
+        }
+        return new CachedConverter<>(converter);
+    }
+
+    private static ValueConverter<?> newInstance(final Class<?> type) {
+        if (!ValueConverter.class.isAssignableFrom(type)) {
+            throw new ClassNotCorrectException(String.format("Converter %s must implement %s", type.getName(), ValueConverter.class.getName()));
+        }
+        try {
+            return (ValueConverter<?>) type.getConstructor().newInstance();
+        } catch (final NoSuchMethodException | IllegalAccessException | InstantiationException e) {
+            final String message = String.format("Converter %s must have public constructor without parameters", type.getName());
+            throw new ClassNotCorrectException(message);
+        } catch (final InvocationTargetException e) {
+            final String message = String.format("Constructor of converter %s mustn't throw any exceptions", type.getName());
+            throw new ClassNotCorrectException(message);
+        }
+    }
+
+    /// ISO-8601 form (PT1M30S) or amount with unit: ns, us, ms, s, m, h or d (500ms, 30s, -2h)
+    static Duration parseDuration(final CharSequence value) {
+        final int length = value.length();
+        int end = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        final int start = end;
+        while (end < length && value.charAt(end) >= '0' && value.charAt(end) <= '9') {
+            end++;
+        }
+        try {
+            if (end == start) {
+                return Duration.parse(value);
+            }
+            final ChronoUnit unit = switch (value.subSequence(end, length).toString()) {
+                case "ns" -> ChronoUnit.NANOS;
+                case "us" -> ChronoUnit.MICROS;
+                case "ms" -> ChronoUnit.MILLIS;
+                case "s" -> ChronoUnit.SECONDS;
+                case "m" -> ChronoUnit.MINUTES;
+                case "h" -> ChronoUnit.HOURS;
+                case "d" -> ChronoUnit.DAYS;
+                default -> throw new IllegalArgumentException("Not correct unit of duration: " + value);
+            };
+            return Duration.of(NumberConverters.parseLong(value, 0, end, false, false, false), unit);
+        } catch (final DateTimeParseException | ArithmeticException e) {
+            throw new IllegalArgumentException("Not correct duration: " + value);
+        }
+    }
+
+    /// ISO-8601 instant, e.g. 2024-01-01T10:15:30Z
+    static Instant parseInstant(final CharSequence value) {
+        try {
+            return Instant.parse(value);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Not correct instant: " + value);
+        }
+    }
+
+    private record Builtin<T>(Class<T> type, Function<CharSequence, T> function, boolean isCacheable) implements ValueConverter<T> {
+        @Override
+        public T convert(final CharSequence value) {
+            return function.apply(value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package parser.daemon;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+/// Work of one command of ParseServer. Container is parsed from the arguments of the client,
+/// env is the environment of the client, out and err are streamed to the client. Returns the exit code of the client
+@FunctionalInterface
+public interface CommandHandler<T> {
+    int handle(T container, Map<String, String> env, PrintStream out, PrintStream err) throws Exception;
+}
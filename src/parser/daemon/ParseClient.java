@@ -0,0 +1,65 @@
+package parser.daemon;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Map;
+
+/// Client of ParseServer. One client keeps its connection, so requests of a loop don't connect again.
+/// Main forwards its arguments and environment: java parser.daemon.ParseClient <socket> <command> [args...]
+public final class ParseClient implements Closeable {
+
+    private final SocketChannel channel;
+
+    private final DataInputStream in;
+
+    private final DataOutputStream out;
+
+
+    public ParseClient(final Path socket) throws IOException {
+        this.channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(socket));
+        this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+
+    /// Sends the request and copies the output of the command to stdout and stderr as it comes, returns the exit code
+    public int execute(final String command, final String[] args, final Map<String, String> env,
+                       final OutputStream stdout, final OutputStream stderr) throws IOException {
+        Protocol.writeRequest(out, command, args, env);
+        while (true) {
+            final byte type = in.readByte();
+            final int length = Protocol.readLength(in);
+            if (type == Protocol.EXIT) {
+                return in.readInt();
+            }
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            final OutputStream target = type == Protocol.OUT ? stdout : stderr;
+            target.write(bytes);
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ParseClient <socket> <command> [args...]");
+            System.exit(ParseServer.USAGE_ERROR);
+        }
+        final String[] commandArgs = new String[args.length - 2];
+        System.arraycopy(args, 2, commandArgs, 0, commandArgs.length);
+        final int code;
+        try (ParseClient client = new ParseClient(Path.of(args[0]))) {
+            code = client.execute(args[1], commandArgs, System.getenv(), System.out, System.err);
+        }
+        System.exit(code);
+    }
+}
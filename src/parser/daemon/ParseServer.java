@@ -0,0 +1,294 @@
+package parser.daemon;
+
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.ParseResult;
+
+import jdk.net.ExtendedSocketOptions;
+import jdk.net.UnixDomainPrincipal;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/// Long-running process which parses argument vectors of clients, so a command doesn't pay for JVM startup
+/// and cold schemas. Commands are registered with their @Container class, its schema is compiled at registration.
+/// Each connection is served by its own virtual thread and may send any number of requests one after another.
+/// Exit code is 2 for not correct arguments or unknown command and 1 if the handler throws.
+/// The socket file is accessible only by its owner and connections of other users are closed at once
+public final class ParseServer implements Closeable {
+
+    /// Exit code of not correct arguments, as of most command line tools
+    public static final int USAGE_ERROR = 2;
+
+    private static final System.Logger LOGGER = System.getLogger(ParseServer.class.getName());
+
+    /// Pause after a failed accept, e.g. when the process is out of file descriptors
+    private static final long ACCEPT_RETRY_MILLIS = 100;
+
+    private final Path socket;
+
+    private final Map<String, Command<?>> commands = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /// Accepted connections, closed with the server so their clients don't wait for a server that has gone
+    private final Set<SocketChannel> clients = ConcurrentHashMap.newKeySet();
+
+    private volatile ServerSocketChannel server;
+
+    /// User of the server process, null if the file system has no owners
+    private UserPrincipal owner;
+
+
+    public ParseServer(final Path socket) {
+        this.socket = socket;
+    }
+
+    public <T> ParseServer register(final String name, final Class<T> clazz, final CommandHandler<T> handler) {
+        commands.put(name, new Command<>(name, ArgumentParser.compile(clazz), handler));
+        return this;
+    }
+
+    /// Binds the socket and accepts connections on a virtual thread, an old socket file is replaced
+    public ParseServer start() throws IOException {
+        Files.deleteIfExists(socket);
+        final ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                bindPrivate(channel);
+                owner = Files.getOwner(socket);
+            } else {
+                channel.bind(UnixDomainSocketAddress.of(socket));
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        server = channel;
+        executor.execute(this::accept);
+        return this;
+    }
+
+    /// The socket is bound in a new directory with mode 0700, gets mode 0600 and only then is moved to its path,
+    /// so other users can't connect between bind and chmod
+    private void bindPrivate(final ServerSocketChannel channel) throws IOException {
+        final Path parent = socket.toAbsolutePath().getParent();
+        final Path dir = Files.createTempDirectory(parent, ".parser", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        final Path bound = dir.resolve("socket");
+        try {
+            channel.bind(UnixDomainSocketAddress.of(bound));
+            Files.setPosixFilePermissions(bound, PosixFilePermissions.fromString("rw-------"));
+            Files.move(bound, socket, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(bound);
+            Files.delete(dir);
+        }
+    }
+
+    /// Failure of one accept doesn't stop the server, it is logged and the next connection is accepted
+    private void accept() {
+        final ServerSocketChannel channel = server;
+        while (channel.isOpen()) {
+            try {
+                final SocketChannel client = channel.accept();
+                executor.execute(() -> serve(client));
+            } catch (final ClosedChannelException ignored) {
+                /// Server is closed
+                return;
+            } catch (final IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to accept connection on " + socket, e);
+                try {
+                    Thread.sleep(ACCEPT_RETRY_MILLIS);
+                } catch (final InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /// True if the peer is run by the owner of the server. Peer credentials are not available on every platform,
+    /// there the permissions of the socket file are the only check
+    private boolean isOwner(final SocketChannel client) throws IOException {
+        if (owner == null || !client.supportedOptions().contains(ExtendedSocketOptions.SO_PEERCRED)) {
+            return true;
+        }
+        final UnixDomainPrincipal peer = client.getOption(ExtendedSocketOptions.SO_PEERCRED);
+        return owner.equals(peer.user());
+    }
+
+    private void serve(final SocketChannel client) {
+        clients.add(client);
+        try (client) {
+            if (!server.isOpen()) {
+                /// Server was closed after accept, close() may have missed this connection
+                return;
+            }
+            if (!isOwner(client)) {
+                LOGGER.log(System.Logger.Level.WARNING, "Connection of other user is rejected on " + socket);
+                return;
+            }
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+            while (true) {
+                final Protocol.Request request;
+                try {
+                    request = Protocol.readRequest(in);
+                } catch (final EOFException ignored) {
+                    return;
+                }
+                final int code = execute(request, out);
+                synchronized (out) {
+                    out.writeByte(Protocol.EXIT);
+                    out.writeInt(Integer.BYTES);
+                    out.writeInt(code);
+                    out.flush();
+                }
+            }
+        } catch (final IOException ignored) {
+            /// Client has gone or the server is closed, nothing to report to
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private int execute(final Protocol.Request request, final DataOutputStream out) {
+        try (PrintStream stdout = new PrintStream(new FrameOutputStream(out, Protocol.OUT), true, StandardCharsets.UTF_8);
+             PrintStream stderr = new PrintStream(new FrameOutputStream(out, Protocol.ERR), true, StandardCharsets.UTF_8)) {
+            final Command<?> command = commands.get(request.command());
+            if (command == null) {
+                stderr.println("Unknown command: " + request.command());
+                return USAGE_ERROR;
+            }
+            return command.execute(request, stdout, stderr);
+        }
+    }
+
+    /// Stops accepting connections and closes the open ones, requests in progress lose their connection
+    @Override
+    public void close() throws IOException {
+        final ServerSocketChannel channel = server;
+        if (channel != null) {
+            channel.close();
+        }
+        for (final SocketChannel client : clients) {
+            try {
+                client.close();
+            } catch (final IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to close connection on " + socket, e);
+            }
+        }
+        executor.shutdown();
+        Files.deleteIfExists(socket);
+    }
+
+
+    private record Command<T>(String name, CompiledParser<T> parser, CommandHandler<T> handler) {
+
+        private int execute(final Protocol.Request request, final PrintStream out, final PrintStream err) {
+            final ParseResult<T> result = parser.tryParse(request.args());
+            if (!result.isSuccess()) {
+                err.println(result.errors().get(0).message());
+                return USAGE_ERROR;
+            }
+            try {
+                return handler.handle(result.value(), request.env(), out, err);
+            } catch (final Exception e) {
+                /// Details of the failure may be private, they stay in the log of the server
+                LOGGER.log(System.Logger.Level.ERROR, "Command " + name + " failed", e);
+                err.println("Command " + name + " failed");
+                return 1;
+            }
+        }
+    }
+
+    /// Bytes are buffered and sent as frames of at most Protocol.MAX_LENGTH bytes on flush, so a single byte
+    /// doesn't cost a frame header. Frames of out and err of one request don't interleave
+    private static final class FrameOutputStream extends OutputStream {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final DataOutputStream out;
+
+        private final byte type;
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int count;
+
+        private FrameOutputStream(final DataOutputStream out, final byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (count == buffer.length) {
+                writeBuffer();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length <= buffer.length - count) {
+                System.arraycopy(bytes, offset, buffer, count, length);
+                count += length;
+                return;
+            }
+            writeBuffer();
+            if (length < buffer.length) {
+                System.arraycopy(bytes, offset, buffer, 0, length);
+                count = length;
+                return;
+            }
+            for (int start = offset, end = offset + length; start < end; start += Protocol.MAX_LENGTH) {
+                writeFrame(bytes, start, Math.min(Protocol.MAX_LENGTH, end - start));
+            }
+        }
+
+        private void writeBuffer() throws IOException {
+            if (count > 0) {
+                writeFrame(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        private void writeFrame(final byte[] bytes, final int offset, final int length) throws IOException {
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBuffer();
+            synchronized (out) {
+                out.flush();
+            }
+        }
+
+        /// The connection is closed by the server, not by the streams of a request
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
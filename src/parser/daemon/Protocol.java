@@ -0,0 +1,80 @@
+package parser.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// Frames of the daemon protocol. Request: command, argument count, arguments, environment size, names and values.
+/// Response: frames of type OUT and ERR with bytes of the output streams, the last frame EXIT has the exit code.
+/// String is int length and UTF-8 bytes, all ints are big endian
+final class Protocol {
+
+    static final byte OUT = 1;
+
+    static final byte ERR = 2;
+
+    static final byte EXIT = 3;
+
+    /// Limit of strings, counts and frames, so a broken peer can't make the other side allocate gigabytes
+    static final int MAX_LENGTH = 1 << 20;
+
+
+    private Protocol() {
+
+    }
+
+    static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readLength(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException(String.format("Not correct length in request: %d", length));
+        }
+        return length;
+    }
+
+    static void writeRequest(final DataOutputStream out, final String command, final String[] args,
+                             final Map<String, String> env) throws IOException {
+        writeString(out, command);
+        out.writeInt(args.length);
+        for (final String arg : args) {
+            writeString(out, arg);
+        }
+        out.writeInt(env.size());
+        for (final Map.Entry<String, String> pair : env.entrySet()) {
+            writeString(out, pair.getKey());
+            writeString(out, pair.getValue());
+        }
+        out.flush();
+    }
+
+    record Request(String command, String[] args, Map<String, String> env) {
+    }
+
+    static Request readRequest(final DataInputStream in) throws IOException {
+        final String command = readString(in);
+        final String[] args = new String[readLength(in)];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readString(in);
+        }
+        final int size = readLength(in);
+        final Map<String, String> env = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            env.put(readString(in), readString(in));
+        }
+        return new Request(command, args, env);
+    }
+}
@@ -0,0 +1,11 @@
+package parser.exception;
+
+/// Not correct value found by an accessor of a lazy view which doesn't declare ArgumentParserException
+public class ArgumentValueException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArgumentValueException(final String message) {
+        super(message);
+    }
+}
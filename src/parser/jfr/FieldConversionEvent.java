@@ -0,0 +1,25 @@
+package parser.jfr;
+
+import jdk.jfr.*;
+
+/// One event per value, so it is disabled by default
+@Name("parser.FieldConversion")
+@Label("Field Conversion")
+@Category("Argument Parser")
+@Description("Conversion of one value of a field")
+@StackTrace(false)
+@Enabled(false)
+final class FieldConversionEvent extends Event {
+    @Label("Container")
+    Class<?> container;
+
+    @Label("Field")
+    String field;
+
+    @Label("Time")
+    @Timespan
+    long time;
+
+    @Label("Error")
+    String error;
+}
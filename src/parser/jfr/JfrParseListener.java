@@ -0,0 +1,68 @@
+package parser.jfr;
+
+import parser.ErrorCode;
+import parser.ParseError;
+import parser.ParseListener;
+import parser.ParsePhase;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/// Emits the reports of the parser as JDK Flight Recorder events of category "Argument Parser",
+/// e.g. ArgumentParser.addListener(new JfrParseListener()). An event is filled only if it is enabled in the recording
+public final class JfrParseListener implements ParseListener {
+
+    @Override
+    public void schemaCacheHit(final Class<?> clazz) {
+        commitCache(clazz, true);
+    }
+
+    @Override
+    public void schemaCacheMiss(final Class<?> clazz) {
+        commitCache(clazz, false);
+    }
+
+    private static void commitCache(final Class<?> clazz, final boolean hit) {
+        final SchemaCacheEvent event = new SchemaCacheEvent();
+        if (event.isEnabled()) {
+            event.container = clazz;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void phase(final Class<?> clazz, final ParsePhase phase, final long nanos) {
+        final PhaseEvent event = new PhaseEvent();
+        if (event.isEnabled()) {
+            event.container = clazz;
+            event.phase = phase.name();
+            event.time = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void fieldConverted(final Field field, final long nanos, final ErrorCode error) {
+        final FieldConversionEvent event = new FieldConversionEvent();
+        if (event.isEnabled()) {
+            event.container = field.getDeclaringClass();
+            event.field = field.getName();
+            event.time = nanos;
+            event.error = error == null ? null : error.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void parsed(final Class<?> clazz, final int tokens, final List<ParseError> errors) {
+        final ParsedEvent event = new ParsedEvent();
+        if (event.isEnabled()) {
+            event.container = clazz;
+            event.tokens = tokens;
+            event.errors = errors.size();
+            event.firstError = errors.isEmpty() ? null : errors.get(0).code().name();
+            event.commit();
+        }
+    }
+}
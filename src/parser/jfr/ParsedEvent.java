@@ -0,0 +1,22 @@
+package parser.jfr;
+
+import jdk.jfr.*;
+
+@Name("parser.Parsed")
+@Label("Parse")
+@Category("Argument Parser")
+@Description("Finished parse of arguments")
+@StackTrace(false)
+final class ParsedEvent extends Event {
+    @Label("Container")
+    Class<?> container;
+
+    @Label("Tokens")
+    int tokens;
+
+    @Label("Errors")
+    int errors;
+
+    @Label("First Error")
+    String firstError;
+}
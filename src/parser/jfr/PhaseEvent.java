@@ -0,0 +1,20 @@
+package parser.jfr;
+
+import jdk.jfr.*;
+
+@Name("parser.Phase")
+@Label("Parse Phase")
+@Category("Argument Parser")
+@Description("Phase of schema compilation or parse")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+    @Label("Container")
+    Class<?> container;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Time")
+    @Timespan
+    long time;
+}
@@ -0,0 +1,16 @@
+package parser.jfr;
+
+import jdk.jfr.*;
+
+@Name("parser.SchemaCache")
+@Label("Schema Cache")
+@Category("Argument Parser")
+@Description("Lookup of compiled schema in the cache of ArgumentParser.compile")
+@StackTrace(false)
+final class SchemaCacheEvent extends Event {
+    @Label("Container")
+    Class<?> container;
+
+    @Label("Hit")
+    boolean hit;
+}
@@ -0,0 +1,61 @@
+package parser.source;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/// Replaces every @file token of the source with the tokens of the file, @@ escapes a token starting with @.
+/// Like in javac, tokens inside an argfile are not expanded again.
+public final class ArgFileTokenSource implements TokenSource {
+
+    private final TokenSource source;
+
+    private final Charset charset;
+
+    private TokenSource file;
+
+
+    public ArgFileTokenSource(final TokenSource source, final Charset charset) {
+        this.source = source;
+        this.charset = charset;
+    }
+
+    public ArgFileTokenSource(final TokenSource source) {
+        this(source, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public CharSequence next() throws IOException {
+        while (true) {
+            if (file != null) {
+                final CharSequence token = file.next();
+                if (token != null) {
+                    return token;
+                }
+                file.close();
+                file = null;
+            }
+
+            final CharSequence token = source.next();
+            if (token == null || token.length() == 0 || token.charAt(0) != '@') {
+                return token;
+            }
+            if (token.length() > 1 && token.charAt(1) == '@') {
+                return token.subSequence(1, token.length());
+            }
+            file = new MappedFileTokenSource(Path.of(token.subSequence(1, token.length()).toString()), charset);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (file != null) {
+                file.close();
+            }
+        } finally {
+            source.close();
+        }
+    }
+}
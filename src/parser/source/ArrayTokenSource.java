@@ -0,0 +1,35 @@
+package parser.source;
+
+import java.nio.CharBuffer;
+
+public final class ArrayTokenSource implements TokenSource {
+
+    /// Returned for a null element of the array instead of null, which would end the input.
+    /// The parser compares it by identity and reports it as an error
+    public static final CharSequence NULL_TOKEN = CharBuffer.wrap("null").asReadOnlyBuffer();
+
+    private String[] args;
+
+    private int position;
+
+
+    public ArrayTokenSource(final String[] args) {
+        this.args = args;
+    }
+
+    /// Lets one instance be reused for many arrays
+    public ArrayTokenSource reset(final String[] args) {
+        this.args = args;
+        this.position = 0;
+        return this;
+    }
+
+    @Override
+    public CharSequence next() {
+        if (position == args.length) {
+            return null;
+        }
+        final String arg = args[position++];
+        return arg != null ? arg : NULL_TOKEN;
+    }
+}
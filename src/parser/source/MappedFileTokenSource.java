@@ -0,0 +1,94 @@
+package parser.source;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/// Reads tokens from a memory-mapped file. The file is mapped window by window and decoded
+/// into a small buffer, so the heap usage doesn't depend on the size of the file.
+public final class MappedFileTokenSource extends Tokenizer {
+
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final CharsetDecoder decoder;
+
+    private final CharBuffer chars = CharBuffer.allocate(8192);
+
+    private MappedByteBuffer bytes;
+
+    private long windowStart;
+
+    private boolean finished;
+
+
+    public MappedFileTokenSource(final Path path, final Charset charset) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        map(0);
+        chars.flip();
+    }
+
+    public MappedFileTokenSource(final Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    private void map(final long position) throws IOException {
+        windowStart = position;
+        final long length = Math.min(WINDOW_SIZE, size - position);
+        bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    private boolean fill() throws IOException {
+        if (finished) {
+            return false;
+        }
+        chars.clear();
+        while (chars.position() == 0) {
+            final boolean lastWindow = windowStart + bytes.limit() == size;
+            final CoderResult result = decoder.decode(bytes, chars, lastWindow);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isOverflow()) {
+                break;
+            }
+            if (lastWindow) {
+                decoder.flush(chars);
+                finished = true;
+                break;
+            }
+            /// Not decoded bytes at the end of the window are the start of the next one
+            map(windowStart + bytes.position());
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    @Override
+    protected int read() throws IOException {
+        if (!chars.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return chars.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
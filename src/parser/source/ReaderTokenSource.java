@@ -0,0 +1,50 @@
+package parser.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public final class ReaderTokenSource extends Tokenizer {
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[8192];
+
+    private int position;
+
+    private int limit;
+
+
+    public ReaderTokenSource(final Reader reader) {
+        this.reader = reader;
+    }
+
+    public ReaderTokenSource(final InputStream stream, final Charset charset) {
+        this(new InputStreamReader(stream, charset));
+    }
+
+    public ReaderTokenSource(final InputStream stream) {
+        this(stream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,16 @@
+package parser.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/// Sequence of command line tokens which is read by the parser one token at a time.
+/// A returned token is valid only until the next call of next(), sources may reuse their buffers.
+public interface TokenSource extends Closeable {
+
+    /// Returns null when there are no more tokens
+    CharSequence next() throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,95 @@
+package parser.source;
+
+import java.io.IOException;
+
+/// Splits characters into tokens like javac does for @argfiles:
+/// tokens are separated by white space, ' and " quote parts of a token,
+/// escapes \n, \r, \t, \f, \\, \', \" and line continuation work inside quotes, # starts a comment line.
+/// Only the current token is kept in memory.
+abstract class Tokenizer implements TokenSource {
+
+    private static final int EOF = -1;
+
+    private final StringBuilder token = new StringBuilder();
+
+    private int ch = -2;
+
+
+    /// Returns the next character or -1 at the end of input
+    protected abstract int read() throws IOException;
+
+    private int nextChar() throws IOException {
+        ch = read();
+        return ch;
+    }
+
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private void skipWhitespaceAndComments() throws IOException {
+        while (true) {
+            while (isWhitespace(ch)) {
+                nextChar();
+            }
+            if (ch != '#') {
+                return;
+            }
+            while (ch != EOF && ch != '\n' && ch != '\r') {
+                nextChar();
+            }
+        }
+    }
+
+    private void readQuoted(final int quote) throws IOException {
+        nextChar();
+        while (ch != quote && ch != EOF) {
+            if (ch == '\\') {
+                nextChar();
+                switch (ch) {
+                    case 'n' -> token.append('\n');
+                    case 'r' -> token.append('\r');
+                    case 't' -> token.append('\t');
+                    case 'f' -> token.append('\f');
+                    case '\n', '\r' -> {
+                        /// Line continuation, leading white space of the next line is skipped
+                        while (isWhitespace(ch)) {
+                            nextChar();
+                        }
+                        continue;
+                    }
+                    case EOF -> {
+                        return;
+                    }
+                    default -> token.append((char) ch);
+                }
+            } else {
+                token.append((char) ch);
+            }
+            nextChar();
+        }
+        nextChar();
+    }
+
+    @Override
+    public CharSequence next() throws IOException {
+        if (ch == -2) {
+            nextChar();
+        }
+        skipWhitespaceAndComments();
+        if (ch == EOF) {
+            return null;
+        }
+
+        token.setLength(0);
+        while (ch != EOF && !isWhitespace(ch)) {
+            if (ch == '\'' || ch == '"') {
+                readQuoted(ch);
+            } else {
+                token.append((char) ch);
+                nextChar();
+            }
+        }
+        return token;
+    }
+}
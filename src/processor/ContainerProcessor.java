@@ -0,0 +1,519 @@
+package processor;
+
+import annotations.Container;
+import annotations.ContainerConstructor;
+import annotations.fields.*;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/// Generates reflection-free <Name>Parser classes for @Container classes.
+/// Checks which ArgumentParser does at runtime are reported as compile errors here.
+/// The processor is not registered as a service, enable it with: javac -processor processor.ContainerProcessor
+@SupportedAnnotationTypes("annotations.Container")
+public class ContainerProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/parser.GeneratedParser";
+
+    private final Set<String> generatedParsers = new TreeSet<>();
+
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Container.class)) {
+            final boolean isClass = element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.RECORD;
+            if (!isClass || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(element, "@Container must be class");
+                continue;
+            }
+            final TypeElement clazz = (TypeElement) element;
+            final List<ArgumentField> fields = getAllFields(clazz);
+            if (fields != null && checkKeys(fields) && canGenerate(clazz, fields)) {
+                generateParser(clazz, fields);
+            }
+        }
+
+        if (roundEnv.processingOver() && !generatedParsers.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+
+    private void error(final Element element, final String message) {
+        messager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warning(final Element element, final String message) {
+        messager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    /// Returns null if any field is not correct, errors are already reported
+    private List<ArgumentField> getAllFields(final TypeElement clazz) {
+        final List<ArgumentField> fields = new ArrayList<>();
+        boolean correct = true;
+        for (final VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+            final Argument argument = field.getAnnotation(Argument.class);
+            final BoolArgument boolArgument = field.getAnnotation(BoolArgument.class);
+            final EnumArgument enumArgument = field.getAnnotation(EnumArgument.class);
+            if (argument == null && boolArgument == null && enumArgument == null) {
+                continue;
+            }
+
+            final Kind kind = getKind(field.asType());
+            if (kind == null) {
+                error(field, String.format("Field %s has not supported type %s", field.getSimpleName(), field.asType()));
+                correct = false;
+                continue;
+            }
+
+            final boolean annotated = switch (kind) {
+                case BOOLEAN -> boolArgument != null;
+                case ENUM -> enumArgument != null;
+                default -> argument != null;
+            };
+            if (!annotated) {
+                final String message = String.format("Field %s must be annotated with %s", field.getSimpleName(), kind.annotation.getName());
+                error(field, message);
+                correct = false;
+                continue;
+            }
+
+            if (argument != null && !checkNumberFormat(field, kind, argument)) {
+                correct = false;
+                continue;
+            }
+
+            if (kind == Kind.ENUM && !checkEnum(field, enumArgument)) {
+                correct = false;
+                continue;
+            }
+
+            final String key;
+            final String messageError;
+            if (kind == Kind.BOOLEAN) {
+                key = boolArgument.value();
+                messageError = null;
+            } else if (kind == Kind.ENUM) {
+                key = enumArgument.value();
+                messageError = enumArgument.messageError();
+            } else {
+                key = argument.value();
+                messageError = argument.messageError();
+            }
+            final boolean required = field.getAnnotation(NotRequired.class) == null;
+            fields.add(new ArgumentField(field, kind, key, messageError, required, boolArgument, enumArgument));
+        }
+        return correct ? fields : null;
+    }
+
+    private static Kind getKind(final TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return Kind.INT;
+            case LONG:
+                return Kind.LONG;
+            case FLOAT:
+                return Kind.FLOAT;
+            case DOUBLE:
+                return Kind.DOUBLE;
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case DECLARED:
+                final Element element = ((DeclaredType) type).asElement();
+                if (element.getKind() == ElementKind.ENUM) {
+                    return Kind.ENUM;
+                }
+                if (((TypeElement) element).getQualifiedName().contentEquals("java.lang.String")) {
+                    return Kind.STRING;
+                }
+                /// Converters of ServiceLoader are known only at runtime, such fields are parsed with reflection
+                return Kind.CONVERTED;
+            default:
+                return null;
+        }
+    }
+
+    private boolean checkNumberFormat(final VariableElement field, final Kind kind, final Argument argument) {
+        final boolean isIntegral = kind == Kind.INT || kind == Kind.LONG;
+        final boolean isNumber = isIntegral || kind == Kind.FLOAT || kind == Kind.DOUBLE;
+        if (argument.hex() && !isIntegral || (argument.underscores() || argument.sizeSuffix()) && !isNumber) {
+            error(field, String.format("Field %s has number format not supported by type %s", field.getSimpleName(), field.asType()));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean checkEnum(final VariableElement field, final EnumArgument annotation) {
+        final Set<String> constants = getEnumConstants(field);
+        boolean correct = true;
+        final Set<String> keys = new HashSet<>();
+        for (final MapPair pair : annotation.mapping()) {
+            if (!constants.contains(pair.enumValue())) {
+                final String message = String.format("Enum field %s has incorrect mapping value: %s", field.getSimpleName(), pair.enumValue());
+                error(field, message);
+                correct = false;
+            }
+            if (!keys.add(pair.key())) {
+                warning(field, String.format("Enum field %s has repeated mapping key: %s, first mapping is used", field.getSimpleName(), pair.key()));
+            }
+        }
+        return correct;
+    }
+
+    private boolean checkKeys(final List<ArgumentField> fields) {
+        final Map<String, ArgumentField> keys = new HashMap<>();
+        boolean correct = true;
+        for (final ArgumentField field : fields) {
+            final ArgumentField other = keys.putIfAbsent(field.key, field);
+            if (other != null) {
+                final String args = String.join(", ", field.name(), other.name());
+                error(field.element, String.format("Arguments can't have same keys. { %s } have key = %s", args, field.key));
+                correct = false;
+            }
+        }
+        return correct;
+    }
+
+    /// Private members can't be used from generated code, such classes are parsed with reflection
+    private boolean canGenerate(final TypeElement clazz, final List<ArgumentField> fields) {
+        for (Element element = clazz; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final TypeElement type = (TypeElement) element;
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                warning(clazz, "Parser is not generated: class " + type.getSimpleName() + " is private");
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                warning(clazz, "Parser is not generated: class " + type.getSimpleName() + " is local");
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && type.getKind() == ElementKind.CLASS
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                warning(clazz, "Parser is not generated: inner class " + type.getSimpleName() + " must be static");
+                return false;
+            }
+        }
+
+        /// Most tokens of such a container are prefixes, each of them would send the whole vector to the compiled schema
+        if (clazz.getAnnotation(Container.class).abbreviations()) {
+            warning(clazz, "Parser is not generated: abbreviations of container " + clazz.getSimpleName() + " are parsed with reflection");
+            return false;
+        }
+
+        final List<ExecutableElement> constructors = ElementFilter.constructorsIn(clazz.getEnclosedElements());
+        final boolean isImmutable = clazz.getKind() == ElementKind.RECORD || constructors.stream()
+                .anyMatch(constructor -> constructor.getAnnotation(ContainerConstructor.class) != null);
+        if (isImmutable) {
+            warning(clazz, "Parser is not generated: immutable container " + clazz.getSimpleName() + " is parsed with reflection");
+            return false;
+        }
+
+        final boolean hasConstructor = constructors.stream().anyMatch(constructor ->
+                constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasConstructor) {
+            final boolean hasPrivateConstructor = constructors.stream().anyMatch(constructor -> constructor.getParameters().isEmpty());
+            if (hasPrivateConstructor) {
+                warning(clazz, "Parser is not generated: constructor without parameters is private");
+            } else {
+                error(clazz, "@Container must have constructor without parameters");
+            }
+            return false;
+        }
+
+        for (final VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+            if (field.getAnnotation(ListArgument.class) != null) {
+                warning(clazz, "Parser is not generated: list field " + field.getSimpleName() + " is parsed with reflection");
+                return false;
+            }
+        }
+
+        for (final ArgumentField field : fields) {
+            if (field.kind == Kind.CONVERTED || hasConverter(field.element)) {
+                warning(clazz, "Parser is not generated: field " + field.name() + " is converted by ValueConverter and parsed with reflection");
+                return false;
+            }
+        }
+
+        for (final ArgumentField field : fields) {
+            final Set<Modifier> modifiers = field.element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+                warning(clazz, "Parser is not generated: field " + field.name() + " is private, final or static");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Class values of annotations can't be read with getAnnotation, the mirror is checked for the converter element
+    private static boolean hasConverter(final VariableElement field) {
+        for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!type.getQualifiedName().contentEquals(Argument.class.getName())) {
+                continue;
+            }
+            return mirror.getElementValues().keySet().stream()
+                    .anyMatch(element -> element.getSimpleName().contentEquals("converter"));
+        }
+        return false;
+    }
+
+    private static String parserName(final TypeElement clazz) {
+        final Deque<String> names = new ArrayDeque<>();
+        for (Element element = clazz; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            names.addFirst(element.getSimpleName().toString());
+        }
+        return String.join("_", names) + "Parser";
+    }
+
+    private void generateParser(final TypeElement clazz, final List<ArgumentField> fields) {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(clazz);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String simpleName = parserName(clazz);
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        final String containerName = clazz.getQualifiedName().toString();
+
+        final StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("import parser.exception.ArgumentParserException;\n\n");
+        code.append("/// Generated by processor.ContainerProcessor, do not edit\n");
+        code.append("public final class ").append(simpleName)
+                .append(" implements parser.GeneratedParser<").append(containerName).append("> {\n\n");
+
+        code.append("    @Override\n");
+        code.append("    public Class<").append(containerName).append("> containerClass() {\n");
+        code.append("        return ").append(containerName).append(".class;\n");
+        code.append("    }\n\n");
+
+        code.append("    @Override\n");
+        code.append("    public ").append(containerName).append(" parse(final String[] args) throws ArgumentParserException {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).kind == Kind.BOOLEAN) {
+                code.append("        boolean seen").append(i).append(" = false;\n");
+            } else {
+                code.append("        String value").append(i).append(" = null;\n");
+            }
+        }
+
+        code.append("        for (int i = 0; i < args.length; i++) {\n");
+        code.append("            final String arg = args[i];\n");
+        code.append("            if (arg == null) {\n");
+        code.append("                return parser.ArgumentParser.compile(").append(containerName).append(".class).parse(args);\n");
+        code.append("            }\n");
+        code.append("            switch (arg) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            final ArgumentField field = fields.get(i);
+            code.append("                case ").append(literal(field.key)).append(" -> {\n");
+            if (field.kind == Kind.BOOLEAN) {
+                code.append("                    if (seen").append(i).append(") {\n");
+                code.append("                        throw new ArgumentParserException(\"The argument is repeated: \" + arg);\n");
+                code.append("                    }\n");
+                code.append("                    seen").append(i).append(" = true;\n");
+            } else {
+                code.append("                    if (value").append(i).append(" != null) {\n");
+                code.append("                        throw new ArgumentParserException(\"The argument is repeated: \" + arg);\n");
+                code.append("                    }\n");
+                code.append("                    if (i + 1 == args.length) {\n");
+                code.append("                        throw new ArgumentParserException(\"No value for argument: \" + arg);\n");
+                code.append("                    }\n");
+                code.append("                    value").append(i).append(" = args[++i];\n");
+            }
+            code.append("                }\n");
+        }
+        /// Any other token is key=value, a cluster of flags or an unknown key: the whole vector is parsed again
+        /// by the compiled schema, which reports the error or the same result as without the processor, see GeneratedParser
+        code.append("                default -> {\n");
+        code.append("                    return parser.ArgumentParser.compile(").append(containerName).append(".class).parse(args);\n");
+        code.append("                }\n");
+        code.append("            }\n");
+        code.append("        }\n");
+
+        for (int i = 0; i < fields.size(); i++) {
+            final ArgumentField field = fields.get(i);
+            if (field.kind != Kind.BOOLEAN && field.required) {
+                final String message = String.format("No required argument: %s\nDescription= %s", field.key, field.messageError);
+                code.append("        if (value").append(i).append(" == null) {\n");
+                code.append("            throw new ArgumentParserException(").append(literal(message)).append(");\n");
+                code.append("        }\n");
+            }
+        }
+
+        code.append("\n        final ").append(containerName).append(" obj = new ").append(containerName).append("();\n");
+        for (int i = 0; i < fields.size(); i++) {
+            appendSetField(code, fields.get(i), i);
+        }
+        code.append("        return obj;\n");
+        code.append("    }\n");
+        code.append("}\n");
+
+        try (final Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, clazz).openWriter()) {
+            writer.write(code.toString());
+        } catch (final IOException e) {
+            error(clazz, "Can't generate parser: " + e.getMessage());
+            return;
+        }
+        generatedParsers.add(qualifiedName);
+    }
+
+    private static void appendSetField(final StringBuilder code, final ArgumentField field, final int i) {
+        final String target = "obj." + field.name();
+        final String value = "value" + i;
+        if (field.kind == Kind.BOOLEAN) {
+            code.append("        ").append(target).append(" = ")
+                    .append(field.boolArgument.def() ? "true" : "seen" + i).append(";\n");
+            return;
+        }
+
+        code.append("        if (").append(value).append(" != null) {\n");
+        switch (field.kind) {
+            case STRING -> code.append("            ").append(target).append(" = ").append(value).append(";\n");
+            case ENUM -> {
+                final String enumName = ((TypeElement) ((DeclaredType) field.element.asType()).asElement()).getQualifiedName().toString();
+                code.append("            ").append(target).append(" = switch (").append(value).append(") {\n");
+                for (final Map.Entry<String, String> pair : getEnumTable(field).entrySet()) {
+                    code.append("                case ").append(literal(pair.getKey())).append(" -> ")
+                            .append(enumName).append('.').append(pair.getValue()).append(";\n");
+                }
+                code.append("                default -> throw new ArgumentParserException(").append(literal(field.messageError)).append(");\n");
+                code.append("            };\n");
+            }
+            default -> {
+                code.append("            try {\n");
+                code.append("                ").append(target).append(" = ").append(parseExpression(field, value)).append(";\n");
+                code.append("            } catch (final NumberFormatException ignored) {\n");
+                code.append("                throw new ArgumentParserException(")
+                        .append(literal(field.messageError + "\nValue was: ")).append(" + ").append(value).append(");\n");
+                code.append("            }\n");
+            }
+        }
+        code.append("        }\n");
+    }
+
+    private static String parseExpression(final ArgumentField field, final String value) {
+        final Argument argument = field.element.getAnnotation(Argument.class);
+        if (!argument.hex() && !argument.underscores() && !argument.sizeSuffix()) {
+            return field.kind.parseMethod + "(" + value + ")";
+        }
+        final String range = value + ", 0, " + value + ".length(), ";
+        return switch (field.kind) {
+            case INT -> "parser.convert.NumberConverters.parseInt(" + range + argument.hex() + ", " + argument.underscores() + ", " + argument.sizeSuffix() + ")";
+            case LONG -> "parser.convert.NumberConverters.parseLong(" + range + argument.hex() + ", " + argument.underscores() + ", " + argument.sizeSuffix() + ")";
+            case FLOAT -> "parser.convert.NumberConverters.parseFloat(" + range + argument.underscores() + ", " + argument.sizeSuffix() + ")";
+            default -> "parser.convert.NumberConverters.parseDouble(" + range + argument.underscores() + ", " + argument.sizeSuffix() + ")";
+        };
+    }
+
+    /// Key -> constant name, the first mapping of a repeated key is used. Without mapping keys are names of the constants
+    private static Map<String, String> getEnumTable(final ArgumentField field) {
+        final Map<String, String> table = new LinkedHashMap<>();
+        final MapPair[] pairs = field.enumArgument.mapping();
+        if (pairs.length == 0) {
+            for (final String constant : getEnumConstants(field.element)) {
+                table.put(constant, constant);
+            }
+        }
+        for (final MapPair pair : pairs) {
+            table.putIfAbsent(pair.key(), pair.enumValue());
+        }
+        return table;
+    }
+
+    private static Set<String> getEnumConstants(final VariableElement field) {
+        final TypeElement enumType = (TypeElement) ((DeclaredType) field.asType()).asElement();
+        final Set<String> constants = new LinkedHashSet<>();
+        for (final Element element : enumType.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                constants.add(element.getSimpleName().toString());
+            }
+        }
+        return constants;
+    }
+
+    private static String literal(final String str) {
+        final StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private void writeServiceFile() {
+        final Filer filer = processingEnv.getFiler();
+        try {
+            final FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (final Writer writer = file.openWriter()) {
+                for (final String name : generatedParsers) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Can't write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+
+    private enum Kind {
+        INT(Argument.class, "Integer.parseInt"),
+        LONG(Argument.class, "Long.parseLong"),
+        FLOAT(Argument.class, "Float.parseFloat"),
+        DOUBLE(Argument.class, "Double.parseDouble"),
+        STRING(Argument.class, null),
+        CONVERTED(Argument.class, null),
+        BOOLEAN(BoolArgument.class, null),
+        ENUM(EnumArgument.class, null);
+
+        private final Class<?> annotation;
+
+        private final String parseMethod;
+
+        Kind(final Class<?> annotation, final String parseMethod) {
+            this.annotation = annotation;
+            this.parseMethod = parseMethod;
+        }
+    }
+
+    private record ArgumentField(VariableElement element, Kind kind, String key, String messageError, boolean required,
+                                 BoolArgument boolArgument, EnumArgument enumArgument) {
+        String name() {
+            return element.getSimpleName().toString();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import parser.ArgumentParser;
+import parser.CompiledParser;
 import parser.exception.ArgumentParserException;
 import parser.exception.ClassNotCorrectException;
 
@@ -33,10 +34,6 @@ class TestingClass1 {
     }
 }
 
-enum TestEnum {
-    X, Y, Z
-}
-
 @Container
 class TestingClass3 {
     @EnumArgument(value = "--testEnum",
@@ -90,6 +87,39 @@ class TestingClass2 {
 
 }
 
+@Container
+class PrivateClass {
+    @Argument(value = "--intField", messageError = "Error in intField")
+    private int intField;
+
+    @BoolArgument("--flag")
+    private boolean flag;
+
+    private PrivateClass() {
+
+    }
+
+    int getIntField() {
+        return intField;
+    }
+
+    boolean getFlag() {
+        return flag;
+    }
+}
+
+@Container
+abstract class AbstractClass {
+    @Argument(value = "--intField", messageError = "Error in intField")
+    public int intField;
+}
+
+@Container
+class DefaultMappingClass {
+    @EnumArgument(value = "--testEnum", messageError = "Error in testEnum")
+    public TestEnum testEnum;
+}
+
 
 public class ArgumentParserTest {
 
@@ -172,6 +202,48 @@ public class ArgumentParserTest {
         Assertions.assertNotNull(exception);
     }
 
+    @Test
+    @DisplayName("Compiled parser is cached and reusable")
+    void test8() throws ArgumentParserException {
+        final CompiledParser<TestingClass1> parser = ArgumentParser.compile(TestingClass1.class);
+        Assertions.assertSame(parser, ArgumentParser.compile(TestingClass1.class));
+
+        final TestingClass1 first = parser.parse(createArray("--doubleField 1.5 --longField 2 --stringField first"));
+        final TestingClass1 second = parser.parse(createArray("--doubleField 2.5 --longField 3 --stringField second --intField 4"));
+        Assertions.assertEquals(first.stringField, "first");
+        Assertions.assertEquals(first.intField, 0);
+        Assertions.assertEquals(second.stringField, "second");
+        Assertions.assertEquals(second.intField, 4);
+    }
+
+    @Test
+    @DisplayName("Not correct class is not cached")
+    void test9() {
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> ArgumentParser.compile(NotCorrectClass1.class));
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> ArgumentParser.compile(NotCorrectClass1.class));
+    }
+
+    @Test
+    @DisplayName("Private fields and constructor")
+    void test10() throws ArgumentParserException {
+        final PrivateClass obj = ArgumentParser.parseArguments(PrivateClass.class, createArray("--intField -7 --flag"));
+        Assertions.assertEquals(obj.getIntField(), -7);
+        Assertions.assertTrue(obj.getFlag());
+
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(AbstractClass.class, createArray("--intField 1"));
+        });
+    }
 
+    @Test
+    @DisplayName("Enum without mapping uses names of constants")
+    void test11() throws ArgumentParserException {
+        final DefaultMappingClass obj = ArgumentParser.parseArguments(DefaultMappingClass.class, createArray("--testEnum Z"));
+        Assertions.assertEquals(obj.testEnum, TestEnum.Z);
 
+        final ArgumentParserException exception = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(TestingClass3.class, createArray("--testEnum Y"));
+        });
+        Assertions.assertEquals(exception.getMessage(), "Error in testEnum");
+    }
 }
@@ -0,0 +1,89 @@
+import annotations.Container;
+import annotations.fields.Argument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.BatchItem;
+import parser.BatchParser;
+import parser.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+@Container
+class BatchClass {
+    @Argument(value = "--id", messageError = "Error in id")
+    public int id;
+}
+
+
+public class BatchParserTest {
+
+    private static List<String[]> createInput(final int size) {
+        final List<String[]> input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(new String[]{"--id", i % 10 == 7 ? "Wrong" : Integer.toString(i)});
+        }
+        return input;
+    }
+
+    private static void checkItems(final List<BatchItem<BatchClass>> items, final int size) {
+        Assertions.assertEquals(items.size(), size);
+        for (int i = 0; i < size; i++) {
+            final BatchItem<BatchClass> item = items.get(i);
+            if (i % 10 == 7) {
+                Assertions.assertFalse(item.isSuccess());
+                Assertions.assertEquals(item.error().code(), ErrorCode.INVALID_NUMBER);
+                Assertions.assertEquals(item.error().value(), "Wrong");
+            } else {
+                Assertions.assertTrue(item.isSuccess());
+                Assertions.assertEquals(item.value().id, i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Batch on executor keeps order and errors")
+    void test1() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final BatchParser<BatchClass> parser = new BatchParser<>(ArgumentParser.compile(BatchClass.class), 7);
+            checkItems(parser.parseAll(createInput(1000), executor), 1000);
+            checkItems(ArgumentParser.parseAll(BatchClass.class, createInput(0), executor), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Batch on stream keeps order and errors")
+    void test2() {
+        final List<BatchItem<BatchClass>> items = ArgumentParser.parseAll(BatchClass.class, createInput(1000).stream())
+                .collect(Collectors.toList());
+        checkItems(items, 1000);
+        final BatchParser<BatchClass> parser = new BatchParser<>(ArgumentParser.compile(BatchClass.class), 7);
+        checkItems(parser.parseAll(createInput(100).stream()).collect(Collectors.toList()), 100);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new BatchParser<>(ArgumentParser.compile(BatchClass.class), 0);
+        });
+    }
+
+    @Test
+    @DisplayName("Batch on stream reads the input by chunks")
+    void test3() {
+        final BatchParser<BatchClass> parser = new BatchParser<>(ArgumentParser.compile(BatchClass.class), 16);
+        final AtomicInteger read = new AtomicInteger();
+        final long count = parser.parseAll(Stream.generate(() -> new String[]{"--id", Integer.toString(read.incrementAndGet())}))
+                .limit(20)
+                .count();
+        Assertions.assertEquals(count, 20L);
+        Assertions.assertEquals(read.get(), 32);
+    }
+}
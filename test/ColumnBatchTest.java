@@ -0,0 +1,150 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.Column;
+import parser.ColumnBatch;
+import parser.ErrorCode;
+
+import java.lang.foreign.ValueLayout;
+
+
+@Container
+class ReplayClass {
+    @Argument(value = "--port", messageError = "Error in port")
+    public int port;
+
+    @Argument(value = "--bytes", messageError = "Error in bytes", sizeSuffix = true)
+    @NotRequired
+    public long bytes = 1024;
+
+    @Argument(value = "--latency", messageError = "Error in latency")
+    @NotRequired
+    public double latency;
+
+    @Argument(value = "--host", messageError = "Error in host")
+    @NotRequired
+    public String host = "localhost";
+
+    @EnumArgument(value = "--testEnum", messageError = "Error in testEnum")
+    @NotRequired
+    public TestEnum testEnum;
+
+    @BoolArgument("--debug")
+    public boolean debug;
+}
+
+
+public class ColumnBatchTest {
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    @Test
+    @DisplayName("Rows are written to columns, not correct row is kept with its error")
+    void test1() {
+        final ColumnBatch<ReplayClass> batch = ArgumentParser.columns(ReplayClass.class, 4, false);
+        Assertions.assertEquals(batch.add(createArray("--port 80 --bytes 2k --latency 1.5 --host a --testEnum Y --debug")), 0);
+        Assertions.assertEquals(batch.add(createArray("--port 81")), 1);
+        Assertions.assertEquals(batch.add(createArray("--port x --debug")), 2);
+        Assertions.assertEquals(batch.size(), 3);
+        Assertions.assertEquals(batch.errorCount(), 1);
+
+        final Column.IntColumn port = batch.column("port", Column.IntColumn.class);
+        Assertions.assertEquals(port.get(0), 80);
+        Assertions.assertEquals(port.get(1), 81);
+        Assertions.assertEquals(port.get(2), 0);
+        Assertions.assertEquals(port.size(), 3);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> port.get(3));
+        Assertions.assertFalse(port.values().isNative());
+
+        final Column.LongColumn bytes = batch.column("bytes", Column.LongColumn.class);
+        Assertions.assertEquals(bytes.get(0), 2048L);
+        Assertions.assertEquals(bytes.get(1), 1024L);
+
+        Assertions.assertEquals(batch.column("latency", Column.DoubleColumn.class).get(0), 1.5);
+        Assertions.assertEquals(batch.column("host", Column.ObjectColumn.class).get(0), "a");
+        Assertions.assertEquals(batch.column("host", Column.ObjectColumn.class).get(1), "localhost");
+
+        final Column.EnumColumn testEnum = batch.column("testEnum", Column.EnumColumn.class);
+        Assertions.assertEquals(testEnum.code(0), TestEnum.Y.ordinal());
+        Assertions.assertEquals(testEnum.get(0), TestEnum.Y);
+        Assertions.assertEquals(testEnum.code(1), Column.EnumColumn.NULL_CODE);
+        Assertions.assertNull(testEnum.get(1));
+
+        final Column.BooleanColumn debug = batch.column("debug", Column.BooleanColumn.class);
+        Assertions.assertTrue(debug.get(0));
+        Assertions.assertFalse(debug.get(1));
+        Assertions.assertFalse(debug.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> debug.get(-1));
+
+        Assertions.assertTrue(batch.isValid(0));
+        Assertions.assertTrue(batch.isValid(1));
+        Assertions.assertEquals(batch.error(2).code(), ErrorCode.INVALID_NUMBER);
+        Assertions.assertEquals(batch.error(2).key(), "--port");
+    }
+
+    @Test
+    @DisplayName("Off-heap columns of immutable container")
+    void test2() {
+        final Column.IntColumn port;
+        try (ColumnBatch<RecordClass> batch = ArgumentParser.columns(RecordClass.class, 100, true)) {
+            for (int i = 0; i < 100; i++) {
+                batch.add(createArray("--port " + i + " --ratio 0.5 --testEnum Z" + (i % 2 == 0 ? " --cache" : "")));
+            }
+            Assertions.assertTrue(batch.isOffHeap());
+            Assertions.assertTrue(batch.isFull());
+            Assertions.assertEquals(batch.errorCount(), 0);
+
+            port = batch.column("port", Column.IntColumn.class);
+            Assertions.assertTrue(port.values().isNative());
+            Assertions.assertTrue(port.values().isReadOnly());
+            long sum = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                sum += port.get(i);
+            }
+            Assertions.assertEquals(sum, 4950L);
+
+            Assertions.assertEquals(batch.column("ratio", Column.DoubleColumn.class).get(99), 0.5);
+            Assertions.assertEquals(batch.column("testEnum", Column.EnumColumn.class).get(50), TestEnum.Z);
+            Assertions.assertNull(batch.column("ids", Column.ObjectColumn.class).get(0));
+
+            final Column.BooleanColumn cache = batch.column("cache", Column.BooleanColumn.class);
+            Assertions.assertEquals(Long.bitCount(cache.bits().getAtIndex(ValueLayout.JAVA_LONG, 0))
+                    + Long.bitCount(cache.bits().getAtIndex(ValueLayout.JAVA_LONG, 1)), 100);
+        }
+        Assertions.assertThrows(IllegalStateException.class, () -> port.get(0));
+    }
+
+    @Test
+    @DisplayName("Capacity, clear and not correct columns")
+    void test3() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArgumentParser.columns(ReplayClass.class, 0, false));
+
+        final ColumnBatch<ReplayClass> batch = ArgumentParser.columns(ReplayClass.class, 1, true);
+        batch.add(createArray("--bytes 1"));
+        Assertions.assertEquals(batch.error(0).code(), ErrorCode.MISSING_REQUIRED);
+        Assertions.assertThrows(IllegalStateException.class, () -> batch.add(createArray("--port 1")));
+
+        batch.clear();
+        Assertions.assertEquals(batch.size(), 0);
+        Assertions.assertEquals(batch.errorCount(), 0);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> batch.error(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> batch.column("bytes", Column.LongColumn.class).get(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> batch.column("host", Column.ObjectColumn.class).get(0));
+        batch.add(createArray("--port 1"));
+        Assertions.assertTrue(batch.isValid(0));
+        Assertions.assertEquals(batch.column("bytes", Column.LongColumn.class).get(0), 1024L);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> batch.column("unknown"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> batch.column("port", Column.LongColumn.class));
+
+        batch.close();
+        batch.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> batch.add(createArray("--port 1")));
+        Assertions.assertEquals(batch.size(), 1);
+    }
+}
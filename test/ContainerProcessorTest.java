@@ -0,0 +1,168 @@
+import annotations.Container;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import processor.ContainerProcessor;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+
+public class ContainerProcessorTest {
+
+    private static final String CORRECT_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+
+            @Container
+            public class Sample {
+                @Argument(value = "--intField", messageError = "Error in intField")
+                int intField;
+
+                @BoolArgument("--flag")
+                boolean flag;
+            }
+            """;
+
+    private static final String NOT_CORRECT_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+
+            @Container
+            public class Sample {
+                @Argument(value = "--intField", messageError = "Error in intField")
+                boolean intField;
+
+                @BoolArgument("--intField")
+                boolean flag;
+            }
+            """;
+
+    private static final String LIST_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+
+            @Container
+            public class Sample {
+                @ListArgument(value = "--ids", messageError = "Error in ids")
+                int[] ids;
+            }
+            """;
+
+    private static final String RECORD_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+
+            @Container
+            public record Sample(@Argument(value = "--port", messageError = "Error in port") int port) {
+            }
+            """;
+
+    private static final String CONVERTED_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+            import java.time.Duration;
+
+            @Container
+            public class Sample {
+                @Argument(value = "--timeout", messageError = "Error in timeout")
+                Duration timeout;
+            }
+            """;
+
+    private static final String ABBREVIATIONS_CLASS = """
+            import annotations.Container;
+            import annotations.fields.*;
+
+            @Container(abbreviations = true)
+            public class Sample {
+                @Argument(value = "--timeout", messageError = "Error in timeout")
+                int timeout;
+            }
+            """;
+
+    private static String getClassPath() {
+        try {
+            return Path.of(Container.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (final URISyntaxException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(final Path dir, final String source) throws IOException {
+        final Path file = dir.resolve("Sample.java");
+        Files.writeString(file, source);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            final List<String> options = List.of(
+                    "-classpath", getClassPath(),
+                    "-d", dir.toString(),
+                    "-s", dir.toString()
+            );
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, manager, diagnostics, options, null, manager.getJavaFileObjects(file));
+            task.setProcessors(List.of(new ContainerProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    @Test
+    @DisplayName("Parser is generated for correct class")
+    void test1(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, CORRECT_CLASS);
+        Assertions.assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        Assertions.assertTrue(Files.exists(dir.resolve("SampleParser.java")));
+        Assertions.assertEquals(Files.readString(dir.resolve("META-INF/services/parser.GeneratedParser")).trim(), "SampleParser");
+    }
+
+    @Test
+    @DisplayName("Not correct class is compile error")
+    void test2(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, NOT_CORRECT_CLASS);
+        final long errors = diagnostics.stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR).count();
+        Assertions.assertEquals(errors, 1);
+        Assertions.assertFalse(Files.exists(dir.resolve("SampleParser.java")));
+    }
+
+    @Test
+    @DisplayName("Class with list is parsed with reflection")
+    void test3(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, LIST_CLASS);
+        Assertions.assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING), diagnostics.toString());
+        Assertions.assertFalse(Files.exists(dir.resolve("SampleParser.java")));
+    }
+
+    @Test
+    @DisplayName("Record is parsed with reflection")
+    void test4(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, RECORD_CLASS);
+        Assertions.assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        Assertions.assertFalse(Files.exists(dir.resolve("SampleParser.java")));
+    }
+
+    @Test
+    @DisplayName("Class with converted field is parsed with reflection")
+    void test5(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, CONVERTED_CLASS);
+        Assertions.assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        Assertions.assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING), diagnostics.toString());
+        Assertions.assertFalse(Files.exists(dir.resolve("SampleParser.java")));
+    }
+
+    @Test
+    @DisplayName("Class with abbreviations is parsed with reflection")
+    void test6(@TempDir final Path dir) throws IOException {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(dir, ABBREVIATIONS_CLASS);
+        Assertions.assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        Assertions.assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING), diagnostics.toString());
+        Assertions.assertFalse(Files.exists(dir.resolve("SampleParser.java")));
+    }
+}
@@ -0,0 +1,104 @@
+import annotations.Container;
+import annotations.ContainerConstructor;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.List;
+
+
+@Container
+class ConstructorClass {
+    @Argument(value = "--timeout", messageError = "Error in timeout")
+    private final long timeout;
+
+    @ListArgument(value = "--names", messageError = "Error in names")
+    private final List<String> names;
+
+    @ContainerConstructor
+    ConstructorClass(final long timeout, final List<String> names) {
+        this.timeout = timeout;
+        this.names = names;
+    }
+
+    long getTimeout() {
+        return timeout;
+    }
+
+    List<String> getNames() {
+        return names;
+    }
+}
+
+@Container
+record NotAnnotatedRecordClass(@Argument(value = "--port", messageError = "Error in port") int port, String host) {
+}
+
+@Container
+class NotCorrectConstructorClass {
+    @Argument(value = "--port", messageError = "Error in port")
+    private final int port;
+
+    @Argument(value = "--host", messageError = "Error in host")
+    private final String host;
+
+    @ContainerConstructor
+    NotCorrectConstructorClass(final String host, final int port) {
+        this.port = port;
+        this.host = host;
+    }
+}
+
+interface RecordView {
+    int port();
+}
+
+
+public class ImmutableContainerTest {
+
+    @Test
+    @DisplayName("Record from canonical constructor")
+    void test1() throws ArgumentParserException {
+        final String[] args = {"--testEnum", "Y", "--port", "8080", "--ids", "1,2", "--ratio", "0.5"};
+        final RecordClass obj = ArgumentParser.parseArguments(RecordClass.class, args);
+        Assertions.assertEquals(obj.port(), 8080);
+        Assertions.assertEquals(obj.ratio(), 0.5f);
+        Assertions.assertNull(obj.host());
+        Assertions.assertEquals(obj.testEnum(), TestEnum.Y);
+        Assertions.assertArrayEquals(obj.ids(), new long[]{1, 2});
+        Assertions.assertTrue(obj.cache());
+
+        final CompiledParser<RecordClass> parser = ArgumentParser.compile(RecordClass.class);
+        final RecordClass other = parser.parse(new String[]{"--testEnum", "Z", "--port", "1", "--host", "localhost"});
+        Assertions.assertEquals(other, new RecordClass(1, 0, "localhost", TestEnum.Z, null, true));
+        Assertions.assertFalse(parser.tryParse(new String[]{"--port", "1"}).isSuccess());
+    }
+
+    @Test
+    @DisplayName("Class from annotated constructor")
+    void test2() throws ArgumentParserException {
+        final String[] args = {"--names", "a,b", "--timeout", "30"};
+        final ConstructorClass obj = ArgumentParser.parseArguments(ConstructorClass.class, args);
+        Assertions.assertEquals(obj.getTimeout(), 30);
+        Assertions.assertEquals(obj.getNames(), List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("Catch error when immutable class not correct")
+    void test3() {
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotAnnotatedRecordClass.class, new String[]{"--port", "1"});
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotCorrectConstructorClass.class, new String[]{"--port", "1", "--host", "h"});
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseLazy(RecordClass.class, RecordView.class, new String[]{"--port", "1", "--testEnum", "X"});
+        });
+    }
+}
@@ -0,0 +1,100 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ErrorCode;
+import parser.ParseError;
+import parser.ParseResult;
+import parser.exception.ArgumentParserException;
+
+import java.util.List;
+
+
+@Container(abbreviations = true)
+class ShortKeysClass {
+    @Argument(value = "-p", messageError = "Error in port")
+    public int port;
+
+    @Argument(value = "--timeout", messageError = "Error in timeout")
+    @NotRequired
+    public long timeout;
+
+    @Argument(value = "--time-zone", messageError = "Error in time zone")
+    @NotRequired
+    public String timeZone;
+
+    @ListArgument(value = "--ids", messageError = "Error in ids")
+    @NotRequired
+    public int[] ids;
+
+    @BoolArgument("-a")
+    public boolean all;
+
+    @BoolArgument("-b")
+    public boolean brief;
+
+    @BoolArgument("--verbose")
+    public boolean verbose;
+}
+
+@Container
+class ExactKeysClass {
+    @Argument(value = "--timeout", messageError = "Error in timeout")
+    public long timeout;
+}
+
+
+public class KeySyntaxTest {
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    @Test
+    @DisplayName("Values after = and clusters of flags")
+    void test1() throws ArgumentParserException {
+        final ShortKeysClass obj = ArgumentParser.parseArguments(ShortKeysClass.class,
+                createArray("-abp 80 --timeout=30 --time-zone=UTC+3 --ids=1,2 --ids 3"));
+        Assertions.assertEquals(obj.port, 80);
+        Assertions.assertEquals(obj.timeout, 30);
+        Assertions.assertEquals(obj.timeZone, "UTC+3");
+        Assertions.assertArrayEquals(obj.ids, new int[]{1, 2, 3});
+        Assertions.assertTrue(obj.all);
+        Assertions.assertTrue(obj.brief);
+        Assertions.assertFalse(obj.verbose);
+
+        final ShortKeysClass other = ArgumentParser.parseArguments(ShortKeysClass.class, createArray("-p=8 -ba"));
+        Assertions.assertEquals(other.port, 8);
+        Assertions.assertTrue(other.all && other.brief);
+    }
+
+    @Test
+    @DisplayName("Unambiguous prefixes of long keys")
+    void test2() throws ArgumentParserException {
+        final ShortKeysClass obj = ArgumentParser.parseArguments(ShortKeysClass.class, createArray("--verb -p 1 --timeo=5 --time-=GMT"));
+        Assertions.assertTrue(obj.verbose);
+        Assertions.assertEquals(obj.timeout, 5);
+        Assertions.assertEquals(obj.timeZone, "GMT");
+
+        final ParseResult<ShortKeysClass> result = ArgumentParser.tryParse(ShortKeysClass.class, createArray("--time 1 -p 1"));
+        Assertions.assertEquals(result.errors().get(0).code(), ErrorCode.AMBIGUOUS_ARGUMENT);
+        Assertions.assertEquals(result.errors().get(0).message(), "The argument is ambiguous: --time");
+
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(ExactKeysClass.class, createArray("--timeo 5"));
+        });
+    }
+
+    @Test
+    @DisplayName("Catch error in not correct keys")
+    void test3() {
+        final String commandLine = "-p 1 -ap 2 -ax --verbose=true -pa 1 -a -x=1";
+        final ParseResult<ShortKeysClass> result = ArgumentParser.tryParse(ShortKeysClass.class, createArray(commandLine), true);
+        Assertions.assertEquals(result.errors().stream().map(ParseError::code).toList(), List.of(
+                ErrorCode.REPEATED_ARGUMENT, ErrorCode.UNKNOWN_ARGUMENT, ErrorCode.UNKNOWN_ARGUMENT, ErrorCode.UNKNOWN_ARGUMENT,
+                ErrorCode.UNKNOWN_ARGUMENT, ErrorCode.REPEATED_ARGUMENT, ErrorCode.UNKNOWN_ARGUMENT));
+        Assertions.assertEquals(result.errors().get(1).key(), "-ax");
+    }
+}
@@ -0,0 +1,124 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.LazyContainer;
+import parser.exception.ArgumentParserException;
+import parser.exception.ArgumentValueException;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+@Container
+class LazyClass {
+    @Argument(value = "--port", messageError = "Error in port")
+    public int port;
+
+    @Argument(value = "--host", messageError = "Error in host")
+    @NotRequired
+    public String host;
+
+    @EnumArgument(value = "--testEnum", messageError = "Error in testEnum")
+    @NotRequired
+    public TestEnum testEnum;
+
+    @ListArgument(value = "--ids", messageError = "Error in ids", ranges = true)
+    @NotRequired
+    public List<Integer> ids;
+
+    @BoolArgument("--verbose")
+    public boolean verbose;
+}
+
+interface LazyView extends LazyContainer {
+    int port();
+
+    int getPort() throws ArgumentParserException;
+
+    String host();
+
+    TestEnum testEnum();
+
+    List<Integer> ids();
+
+    boolean isVerbose();
+
+    default String address() {
+        return host() + ":" + port();
+    }
+}
+
+interface NotCorrectLazyView {
+    long port();
+}
+
+
+public class LazyContainerTest {
+
+    @Test
+    @DisplayName("Values by accessors")
+    void test1() throws ArgumentParserException {
+        final String[] args = {"--port", "8080", "--host", "localhost", "--ids", "1..3", "--verbose", "--ids", "9"};
+        final LazyView view = ArgumentParser.parseLazy(LazyClass.class, LazyView.class, args);
+        Assertions.assertEquals(view.port(), 8080);
+        Assertions.assertEquals(view.getPort(), 8080);
+        Assertions.assertEquals(view.address(), "localhost:8080");
+        Assertions.assertNull(view.testEnum());
+        Assertions.assertEquals(view.ids(), List.of(1, 2, 3, 9));
+        Assertions.assertSame(view.ids(), view.ids());
+        Assertions.assertTrue(view.isVerbose());
+        view.validateAll();
+    }
+
+    @Test
+    @DisplayName("Not correct values are found on access")
+    void test2() throws ArgumentParserException {
+        final String[] args = {"--port", "http", "--testEnum", "W"};
+        final LazyView view = ArgumentParser.parseLazy(LazyClass.class, LazyView.class, args);
+        Assertions.assertNull(view.host());
+        Assertions.assertFalse(view.isVerbose());
+
+        final ArgumentValueException exception = Assertions.assertThrows(ArgumentValueException.class, view::port);
+        Assertions.assertEquals(exception.getMessage(), "Error in port\nValue was: http");
+        Assertions.assertThrows(ArgumentParserException.class, view::getPort);
+        Assertions.assertThrows(ArgumentValueException.class, view::testEnum);
+        Assertions.assertEquals(Assertions.assertThrows(ArgumentParserException.class, view::validateAll).getMessage(), exception.getMessage());
+
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseLazy(LazyClass.class, LazyView.class, new String[]{"--host", "localhost"});
+        });
+    }
+
+    @Test
+    @DisplayName("Value is converted once for all threads")
+    void test3() throws Exception {
+        final LazyView view = ArgumentParser.parseLazy(LazyClass.class, LazyView.class, new String[]{"--port", "1", "--ids", "0..99999"});
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<List<Integer>>> futures = List.of(
+                    CompletableFuture.supplyAsync(view::ids, executor),
+                    CompletableFuture.supplyAsync(view::ids, executor),
+                    CompletableFuture.supplyAsync(view::ids, executor),
+                    CompletableFuture.supplyAsync(view::ids, executor)
+            );
+            for (final CompletableFuture<List<Integer>> future : futures) {
+                Assertions.assertSame(future.get(), view.ids());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseLazy(LazyClass.class, NotCorrectLazyView.class, new String[]{"--port", "1"});
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseLazy(LazyClass.class, LazyClass.class, new String[]{"--port", "1"});
+        });
+    }
+}
@@ -0,0 +1,153 @@
+import annotations.Container;
+import annotations.fields.ListArgument;
+import annotations.fields.NotRequired;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ErrorCode;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.List;
+
+
+@Container
+class ArrayClass {
+    @ListArgument(value = "--partitions", messageError = "Error in partitions", ranges = true)
+    public int[] partitions;
+
+    @ListArgument(value = "--offsets", messageError = "Error in offsets", separator = ":")
+    @NotRequired
+    public long[] offsets;
+
+    @ListArgument(value = "--weights", messageError = "Error in weights")
+    @NotRequired
+    public double[] weights;
+
+    @ListArgument(value = "--file", messageError = "Error in file", separator = "")
+    @NotRequired
+    public String[] files;
+}
+
+@Container
+class ListClass {
+    @ListArgument(value = "--ids", messageError = "Error in ids", ranges = true)
+    public List<Integer> ids;
+
+    @ListArgument(value = "--big", messageError = "Error in big", ranges = true)
+    @NotRequired
+    public List<Long> big;
+
+    @ListArgument(value = "--weights", messageError = "Error in weights")
+    @NotRequired
+    public List<Double> weights;
+
+    @ListArgument(value = "--names", messageError = "Error in names")
+    @NotRequired
+    public List<String> names;
+}
+
+@Container
+class NotCorrectListClass1 {
+    @ListArgument(value = "--values", messageError = "Error in values")
+    public List<Object> values;
+}
+
+@Container
+class NotCorrectListClass2 {
+    @ListArgument(value = "--values", messageError = "Error in values", ranges = true)
+    public double[] values;
+}
+
+@Container
+class LimitedRangeClass {
+    @ListArgument(value = "--ids", messageError = "Error in ids", ranges = true, maxExpanded = 4)
+    public long[] ids;
+}
+
+@Container
+class NotCorrectListClass3 {
+    @ListArgument(value = "--values", messageError = "Error in values", ranges = true, maxExpanded = 0)
+    public int[] values;
+}
+
+
+public class ListArgumentTest {
+
+    @Test
+    @DisplayName("Arrays from separated values, repeated keys and ranges")
+    void test1() throws ArgumentParserException {
+        final String[] args = {
+                "--partitions", "0,3..5", "--file", "a,b", "--partitions", "-2..-1",
+                "--offsets", "9223372036854775807:-1", "--weights", "0.5,1e3", "--file", "c"
+        };
+        final ArrayClass obj = ArgumentParser.parseArguments(ArrayClass.class, args);
+        Assertions.assertArrayEquals(obj.partitions, new int[]{0, 3, 4, 5, -2, -1});
+        Assertions.assertArrayEquals(obj.offsets, new long[]{Long.MAX_VALUE, -1});
+        Assertions.assertArrayEquals(obj.weights, new double[]{0.5, 1000});
+        Assertions.assertArrayEquals(obj.files, new String[]{"a,b", "c"});
+
+        final ArrayClass other = ArgumentParser.parseArguments(ArrayClass.class, new String[]{"--partitions", "7"});
+        Assertions.assertArrayEquals(other.partitions, new int[]{7});
+        Assertions.assertNull(other.files);
+    }
+
+    @Test
+    @DisplayName("Lists and lazy ranges")
+    void test2() throws ArgumentParserException {
+        final String[] args = {"--ids", "1,2,3,10..1000009", "--big", "4294967296..4294967298", "--weights", "2.5", "--names", "x,,y"};
+        final ListClass obj = ArgumentParser.parseArguments(ListClass.class, args);
+        Assertions.assertEquals(obj.ids.size(), 1000003);
+        Assertions.assertEquals(obj.ids.get(2), 3);
+        Assertions.assertEquals(obj.ids.get(3), 10);
+        Assertions.assertEquals(obj.ids.get(1000002), 1000009);
+        Assertions.assertEquals(obj.big, List.of(4294967296L, 4294967297L, 4294967298L));
+        Assertions.assertEquals(obj.weights, List.of(2.5));
+        Assertions.assertEquals(obj.names, List.of("x", "", "y"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> obj.ids.add(1));
+    }
+
+    @Test
+    @DisplayName("Not correct values and classes")
+    void test3() {
+        final String[] args = {"--ids", "1,x", "--big", "5..1", "--weights", "--names", "a"};
+        final List<ErrorCode> codes = ArgumentParser.tryParse(ListClass.class, args, true).errors().stream()
+                .map(error -> error.code())
+                .toList();
+        Assertions.assertEquals(codes, List.of(ErrorCode.INVALID_NUMBER, ErrorCode.INVALID_VALUE, ErrorCode.INVALID_NUMBER, ErrorCode.UNKNOWN_ARGUMENT));
+
+        final ArgumentParserException exception = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(ArrayClass.class, new String[]{"--partitions", "1..2147483648"});
+        });
+        Assertions.assertEquals(exception.getMessage(), "Error in partitions\nValue was: 1..2147483648");
+
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotCorrectListClass1.class, new String[0]);
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotCorrectListClass2.class, new String[0]);
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotCorrectListClass3.class, new String[0]);
+        });
+    }
+
+    @Test
+    @DisplayName("Expansion of ranges into arrays is limited")
+    void test4() throws ArgumentParserException {
+        final ArgumentParserException exception = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(ArrayClass.class, new String[]{"--partitions", "0..2000000000"});
+        });
+        Assertions.assertEquals(exception.getMessage(), "Error in partitions");
+
+        final LimitedRangeClass obj = ArgumentParser.parseArguments(LimitedRangeClass.class, new String[]{"--ids", "1..2,7,5..6"});
+        Assertions.assertArrayEquals(obj.ids, new long[]{1, 2, 7, 5, 6});
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(LimitedRangeClass.class, new String[]{"--ids", "1..2", "--ids", "5..7"});
+        });
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(LimitedRangeClass.class, new String[]{"--ids", "-9223372036854775808..9223372036854775807"});
+        });
+    }
+}
@@ -0,0 +1,115 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ChangeSet;
+import parser.FieldChange;
+import parser.LiveContainer;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+@Container
+class SettingsClass {
+    @Argument(value = "--port", messageError = "Error in port", hex = true)
+    public int port;
+
+    @Argument(value = "--host", messageError = "Error in host")
+    @NotRequired
+    public String host = "localhost";
+
+    @ListArgument(value = "--peers", messageError = "Error in peers")
+    @NotRequired
+    public List<String> peers;
+
+    @EnumArgument(value = "--testEnum", messageError = "Error in testEnum")
+    @NotRequired
+    public TestEnum testEnum;
+
+    @BoolArgument("--debug")
+    public boolean debug;
+}
+
+
+public class LiveContainerTest {
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    private static Set<String> names(final ChangeSet<?> changes) {
+        return changes.changes().keySet().stream().map(Field::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("Only changed fields are reported")
+    void test1() throws Exception {
+        final LiveContainer<SettingsClass> live = ArgumentParser.live(SettingsClass.class,
+                createArray("--port 80 --host example --peers a,b --testEnum X"));
+        final SettingsClass first = live.get();
+        Assertions.assertEquals(first.port, 80);
+        Assertions.assertEquals(live.version(), 0);
+
+        final List<ChangeSet<SettingsClass>> received = new ArrayList<>();
+        live.subscribe(received::add);
+        final ChangeSet<SettingsClass> changes = live.update(createArray("--peers a,b --port 81 --debug --testEnum X"));
+        Assertions.assertEquals(names(changes), Set.of("port", "host", "debug"));
+        final FieldChange host = changes.changes().get(SettingsClass.class.getField("host"));
+        Assertions.assertEquals(host.oldValue(), "example");
+        Assertions.assertEquals(host.newValue(), "localhost");
+        Assertions.assertEquals(changes.changes().get(SettingsClass.class.getField("port")).newValue(), 81);
+        Assertions.assertTrue(changes.isChanged("debug"));
+        Assertions.assertFalse(changes.isChanged("peers"));
+
+        Assertions.assertEquals(received, List.of(changes));
+        Assertions.assertEquals(live.version(), 1);
+        Assertions.assertSame(live.get(), changes.current());
+        Assertions.assertSame(changes.previous(), first);
+        Assertions.assertEquals(first.port, 80);
+        Assertions.assertEquals(first.host, "example");
+        Assertions.assertSame(live.get().peers, first.peers);
+    }
+
+    @Test
+    @DisplayName("Same values don't publish a version")
+    void test2() throws ArgumentParserException {
+        final LiveContainer<SettingsClass> live = ArgumentParser.live(SettingsClass.class, createArray("--port 16"));
+        final SettingsClass first = live.get();
+        final ChangeSet<SettingsClass> changes = live.update(createArray("--port 0x10"));
+        Assertions.assertTrue(changes.isEmpty());
+        Assertions.assertEquals(changes.version(), 0);
+        Assertions.assertSame(live.get(), first);
+
+        Assertions.assertTrue(live.update(createArray("--port 0x10")).isEmpty());
+        Assertions.assertTrue(live.update(createArray("--port 16")).isEmpty());
+        final ChangeSet<SettingsClass> next = live.update(createArray("--port 17"));
+        Assertions.assertEquals(next.changes().values().iterator().next().oldValue(), 16);
+        Assertions.assertEquals(live.get().port, 17);
+        Assertions.assertEquals(live.get().host, "localhost");
+        Assertions.assertEquals(first.port, 16);
+    }
+
+    @Test
+    @DisplayName("Not correct update keeps the current version")
+    void test3() throws ArgumentParserException {
+        final LiveContainer<SettingsClass> live = ArgumentParser.live(SettingsClass.class, createArray("--port 1"));
+        final SettingsClass first = live.get();
+        Assertions.assertThrows(ArgumentParserException.class, () -> live.update(createArray("--host other")));
+        Assertions.assertThrows(ArgumentParserException.class, () -> live.update(createArray("--port 1 --port 2")));
+        Assertions.assertThrows(ArgumentParserException.class, () -> live.update(createArray("--port 1 --testEnum W")));
+        Assertions.assertSame(live.get(), first);
+        Assertions.assertEquals(live.version(), 0);
+
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.live(RecordClass.class, createArray("--port 1 --testEnum X"));
+        });
+    }
+}
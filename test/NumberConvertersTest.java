@@ -0,0 +1,83 @@
+import annotations.Container;
+import annotations.fields.Argument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.convert.ByteSlice;
+import parser.convert.NumberConverters;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.nio.charset.StandardCharsets;
+
+
+@Container
+class FormatClass {
+    @Argument(value = "--mask", messageError = "Error in mask", hex = true)
+    public int mask;
+
+    @Argument(value = "--count", messageError = "Error in count", underscores = true)
+    public long count;
+
+    @Argument(value = "--memory", messageError = "Error in memory", sizeSuffix = true)
+    public long memory;
+}
+
+@Container
+class NotCorrectFormatClass {
+    @Argument(value = "--ratio", messageError = "Error in ratio", hex = true)
+    public double ratio;
+}
+
+
+public class NumberConvertersTest {
+
+    @Test
+    @DisplayName("Same results as jdk")
+    void test1() {
+        final String[] values = {"0", "-0", "+15", "2147483647", "-2147483648", "9223372036854775807", "12.5", "-0.001", "1e22", "1e23", "32.1f", "NaN", "0x1p3"};
+        for (final String value : values) {
+            final StringBuilder builder = new StringBuilder(value);
+            Assertions.assertEquals(NumberConverters.doubleConverter(false, false).convert(builder), Double.parseDouble(value));
+            Assertions.assertEquals(NumberConverters.floatConverter(false, false).convert(builder), Float.parseFloat(value));
+        }
+        Assertions.assertEquals(NumberConverters.longConverter(false, false, false).convert("-9223372036854775808"), Long.MIN_VALUE);
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.intConverter(false, false, false).convert("2147483648"));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.longConverter(false, false, false).convert(""));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.longConverter(false, false, false).convert("0x10"));
+    }
+
+    @Test
+    @DisplayName("Hex, underscores and size suffixes")
+    void test2() {
+        Assertions.assertEquals(NumberConverters.intConverter(true, false, false).convert("0x1F"), 31);
+        Assertions.assertEquals(NumberConverters.longConverter(false, true, false).convert("1_000_000"), 1_000_000L);
+        Assertions.assertEquals(NumberConverters.longConverter(false, false, true).convert("64k"), 65536L);
+        Assertions.assertEquals(NumberConverters.longConverter(false, false, true).convert("2G"), 2L << 30);
+        Assertions.assertEquals(NumberConverters.doubleConverter(true, true).convert("1_0.5m"), 10.5 * (1 << 20));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.longConverter(false, true, false).convert("_1"));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.longConverter(false, true, false).convert("1_"));
+        Assertions.assertThrows(NumberFormatException.class, () -> NumberConverters.longConverter(false, false, true).convert("8388608t"));
+
+        final byte[] bytes = "--count 1234".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(NumberConverters.intConverter(false, false, false).convert(new ByteSlice(bytes, 8, 12)), 1234);
+    }
+
+    @Test
+    @DisplayName("Number formats of arguments")
+    void test3() throws ArgumentParserException {
+        final FormatClass obj = ArgumentParser.parseArguments(FormatClass.class,
+                new String[]{"--mask", "0xff", "--count", "10_000", "--memory", "512m"});
+        Assertions.assertEquals(obj.mask, 255);
+        Assertions.assertEquals(obj.count, 10_000);
+        Assertions.assertEquals(obj.memory, 512L << 20);
+
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(FormatClass.class, new String[]{"--mask", "1", "--count", "1", "--memory", "0xff"});
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseArguments(NotCorrectFormatClass.class, new String[]{"--ratio", "1"});
+        });
+    }
+}
@@ -0,0 +1,122 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.CompiledParser;
+import parser.ContainerPool;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+@Container
+class ReusedClass {
+    @Argument(value = "--id", messageError = "Error in id")
+    public int id;
+
+    @Argument(value = "--timeout", messageError = "Error in timeout")
+    @NotRequired
+    public long timeout = 30;
+
+    @Argument(value = "--name", messageError = "Error in name")
+    @NotRequired
+    public String name = "default";
+
+    @ListArgument(value = "--tags", messageError = "Error in tags")
+    @NotRequired
+    public List<String> tags = List.of();
+
+    @BoolArgument(value = "--cache", def = true)
+    public boolean cache;
+
+    @BoolArgument("--verbose")
+    public boolean verbose;
+}
+
+@Container
+class MutableDefaultsClass {
+    @Argument(value = "--id", messageError = "Error in id")
+    public int id;
+
+    @ListArgument(value = "--ports", messageError = "Error in ports")
+    @NotRequired
+    public int[] ports = {80};
+
+    @ListArgument(value = "--tags", messageError = "Error in tags")
+    @NotRequired
+    public List<String> tags = new ArrayList<>();
+}
+
+
+public class ParseIntoTest {
+
+    @Test
+    @DisplayName("Target is reset to defaults and refilled")
+    void test1() throws ArgumentParserException {
+        final ReusedClass target = new ReusedClass();
+        final String[] args = {"--id", "1", "--timeout", "5", "--name", "first", "--tags", "a,b", "--verbose", "--cache"};
+        Assertions.assertSame(ArgumentParser.parseInto(target, args), target);
+        Assertions.assertEquals(target.id, 1);
+        Assertions.assertEquals(target.timeout, 5);
+        Assertions.assertEquals(target.name, "first");
+        Assertions.assertEquals(target.tags, List.of("a", "b"));
+        Assertions.assertTrue(target.cache);
+        Assertions.assertTrue(target.verbose);
+
+        ArgumentParser.parseInto(target, new String[]{"--id", "2"});
+        Assertions.assertEquals(target.id, 2);
+        Assertions.assertEquals(target.timeout, 30);
+        Assertions.assertEquals(target.name, "default");
+        Assertions.assertEquals(target.tags, List.of());
+        Assertions.assertTrue(target.cache);
+        Assertions.assertFalse(target.verbose);
+    }
+
+    @Test
+    @DisplayName("Pool reuses released containers")
+    void test2() throws ArgumentParserException {
+        final ContainerPool<ReusedClass> pool = ArgumentParser.compile(ReusedClass.class).pool();
+        Assertions.assertSame(pool, ArgumentParser.compile(ReusedClass.class).pool());
+
+        final ReusedClass first = pool.parse(new String[]{"--id", "1", "--name", "first"});
+        pool.release(first);
+        final ReusedClass second = pool.parse(new String[]{"--id", "2"});
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(second.id, 2);
+        Assertions.assertEquals(second.name, "default");
+
+        Assertions.assertNotSame(pool.acquire(), second);
+        Assertions.assertThrows(ArgumentParserException.class, () -> pool.parse(new String[]{"--id", "x"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContainerPool<>(ArgumentParser.compile(ReusedClass.class), 0));
+    }
+
+    @Test
+    @DisplayName("Catch error when container is immutable")
+    void test3() {
+        final CompiledParser<RecordClass> parser = ArgumentParser.compile(RecordClass.class);
+        final RecordClass target = new RecordClass(1, 0, null, TestEnum.X, null, false);
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> parser.parseInto(target, new String[]{"--port", "1"}));
+        Assertions.assertThrows(ClassNotCorrectException.class, parser::pool);
+    }
+
+    @Test
+    @DisplayName("Reset targets don't share arrays and lists of defaults")
+    void test4() throws ArgumentParserException {
+        final String[] args = {"--id", "1"};
+        final MutableDefaultsClass first = ArgumentParser.parseInto(new MutableDefaultsClass(), args);
+        final MutableDefaultsClass second = ArgumentParser.parseInto(new MutableDefaultsClass(), args);
+        first.ports[0] = 8080;
+        first.tags.add("changed");
+        Assertions.assertArrayEquals(second.ports, new int[]{80});
+        Assertions.assertEquals(second.tags, List.of());
+
+        ArgumentParser.parseInto(first, args);
+        Assertions.assertArrayEquals(first.ports, new int[]{80});
+        Assertions.assertEquals(first.tags, List.of());
+        Assertions.assertNotSame(first.tags, second.tags);
+    }
+}
@@ -0,0 +1,149 @@
+import annotations.Container;
+import annotations.fields.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.ArgumentParser;
+import parser.ErrorCode;
+import parser.GeneratedParser;
+import parser.ParsePhase;
+import parser.ParseStatistics;
+import parser.exception.ArgumentParserException;
+import parser.jfr.JfrParseListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+@Container
+class ObservedClass {
+    @Argument(value = "--count", messageError = "Error in count")
+    public int count;
+
+    @Argument(value = "--name", messageError = "Error in name")
+    @NotRequired
+    public String name;
+
+    @BoolArgument("--flag")
+    public boolean flag;
+}
+
+@Container
+class RecordedClass {
+    @Argument(value = "--count", messageError = "Error in count")
+    public int count;
+}
+
+@Container
+class GeneratedClass {
+    @Argument(value = "--count", messageError = "Error in count")
+    public int count;
+}
+
+
+public class ParseListenerTest {
+
+    /// Registered in META-INF/services/parser.GeneratedParser, marks its containers with count -1
+    public static final class GeneratedClassParser implements GeneratedParser<GeneratedClass> {
+
+        @Override
+        public Class<GeneratedClass> containerClass() {
+            return GeneratedClass.class;
+        }
+
+        @Override
+        public GeneratedClass parse(final String[] args) {
+            final GeneratedClass obj = new GeneratedClass();
+            obj.count = -1;
+            return obj;
+        }
+    }
+
+    @Test
+    @DisplayName("Statistics of compilation and parses")
+    void test1() throws Exception {
+        final ParseStatistics statistics = new ParseStatistics();
+        ArgumentParser.addListener(statistics);
+        try {
+            ArgumentParser.parseArguments(ObservedClass.class, new String[]{"--count", "1", "--flag"});
+            ArgumentParser.tryParse(ObservedClass.class, new String[]{"--count", "x", "--other"}, true);
+        } finally {
+            Assertions.assertTrue(ArgumentParser.removeListener(statistics));
+        }
+        ArgumentParser.parseArguments(ObservedClass.class, new String[]{"--count", "2"});
+
+        Assertions.assertEquals(statistics.cacheMisses(), 1);
+        Assertions.assertEquals(statistics.cacheHits(), 1);
+        Assertions.assertEquals(statistics.parses(), 2);
+        Assertions.assertEquals(statistics.tokens(), 6);
+        Assertions.assertEquals(statistics.errors(ErrorCode.INVALID_NUMBER), 1);
+        Assertions.assertEquals(statistics.errors(ErrorCode.UNKNOWN_ARGUMENT), 1);
+        Assertions.assertEquals(statistics.errors(ErrorCode.MISSING_REQUIRED), 0);
+        Assertions.assertEquals(statistics.conversions(ObservedClass.class.getField("count")), 2);
+        Assertions.assertEquals(statistics.conversions(ObservedClass.class.getField("name")), 0);
+        for (final ParsePhase phase : ParsePhase.values()) {
+            Assertions.assertTrue(statistics.phaseNanos(phase) > 0, phase.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Flight recorder events")
+    void test2(@TempDir final Path dir) throws ArgumentParserException, IOException {
+        final JfrParseListener listener = new JfrParseListener();
+        final Path file = dir.resolve("parse.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("parser.Phase");
+            recording.enable("parser.Parsed");
+            recording.enable("parser.SchemaCache");
+            recording.start();
+            ArgumentParser.addListener(listener);
+            try {
+                ArgumentParser.parseArguments(RecordedClass.class, new String[]{"--count", "1"});
+            } finally {
+                ArgumentParser.removeListener(listener);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("parser."))
+                .toList();
+        final Set<String> phases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("parser.Phase"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(phases, Set.of("CLASS_CHECK", "FIELD_DISCOVERY", "VALIDATION", "KEY_TABLE", "BIND", "FINISH"));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("parser.SchemaCache")));
+        final RecordedEvent parsed = events.stream()
+                .filter(event -> event.getEventType().getName().equals("parser.Parsed"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(parsed.getInt("tokens"), 2);
+        Assertions.assertEquals(parsed.getInt("errors"), 0);
+    }
+
+    @Test
+    @DisplayName("Parses of classes with generated parser are reported")
+    void test3() throws ArgumentParserException {
+        final String[] args = {"--count", "5"};
+        Assertions.assertEquals(ArgumentParser.parseArguments(GeneratedClass.class, args).count, -1);
+
+        final ParseStatistics statistics = new ParseStatistics();
+        ArgumentParser.addListener(statistics);
+        try {
+            Assertions.assertEquals(ArgumentParser.parseArguments(GeneratedClass.class, args).count, 5);
+        } finally {
+            ArgumentParser.removeListener(statistics);
+        }
+        Assertions.assertEquals(statistics.parses(), 1);
+        Assertions.assertEquals(statistics.tokens(), 2);
+    }
+}
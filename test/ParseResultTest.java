@@ -0,0 +1,106 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ErrorCode;
+import parser.ParseError;
+import parser.ParseResult;
+import parser.exception.ArgumentParserException;
+
+import java.util.List;
+
+
+@Container
+class ResultClass {
+    @Argument(value = "--intField", messageError = "Error in intField")
+    @NotRequired
+    public int intField;
+
+    @Argument(value = "--floatField", messageError = "Error in floatField")
+    @NotRequired
+    public float floatField;
+
+    @Argument(value = "--doubleField", messageError = "Error in doubleField")
+    public double doubleField;
+
+    @Argument(value = "--longField", messageError = "Error in longField")
+    public long longField;
+
+    @Argument(value = "--stringField", messageError = "Error in stringField")
+    public String stringField;
+}
+
+@Container
+class ResultEnumClass {
+    @EnumArgument(value = "--testEnum",
+            messageError = "Error in testEnum",
+            mapping = {
+                    @MapPair(key = "-X", enumValue = "X"),
+                    @MapPair(key = "-Y", enumValue = "Y"),
+                    @MapPair(key = "-Z", enumValue = "Z")
+            })
+    public TestEnum testEnum;
+}
+
+
+public class ParseResultTest {
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    @Test
+    @DisplayName("Value without errors")
+    void test1() throws ArgumentParserException {
+        final String commandLine = "--doubleField 1.5 --longField 7 --stringField abc";
+        final ParseResult<ResultClass> result = ArgumentParser.tryParse(ResultClass.class, createArray(commandLine));
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertTrue(result.errors().isEmpty());
+        Assertions.assertEquals(result.value().longField, 7);
+        Assertions.assertSame(result.orElseThrow(), result.value());
+    }
+
+    @Test
+    @DisplayName("First error has the message of exception")
+    void test2() {
+        final String commandLine = "--doubleField 1.5 --longField abc --stringField abc";
+        final ParseResult<ResultClass> result = ArgumentParser.tryParse(ResultClass.class, createArray(commandLine));
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertNull(result.value());
+        Assertions.assertEquals(result.errors().size(), 1);
+
+        final ParseError error = result.errors().get(0);
+        Assertions.assertEquals(error.code(), ErrorCode.INVALID_NUMBER);
+        Assertions.assertEquals(error.key(), "--longField");
+        Assertions.assertEquals(error.position(), 2);
+        Assertions.assertEquals(error.field().getName(), "longField");
+        Assertions.assertEquals(error.value(), "abc");
+
+        final ArgumentParserException exception = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(ResultClass.class, createArray(commandLine));
+        });
+        Assertions.assertEquals(error.message(), exception.getMessage());
+        Assertions.assertEquals(Assertions.assertThrows(ArgumentParserException.class, result::orElseThrow).getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("All errors in one pass")
+    void test3() {
+        final String commandLine = "--intField x --unknown --intField 1 --floatField 2 --testEnum";
+        final ParseResult<ResultClass> result = ArgumentParser.tryParse(ResultClass.class, createArray(commandLine), true);
+        final List<ErrorCode> codes = result.errors().stream().map(ParseError::code).toList();
+        Assertions.assertEquals(codes, List.of(ErrorCode.INVALID_NUMBER, ErrorCode.UNKNOWN_ARGUMENT, ErrorCode.REPEATED_ARGUMENT,
+                ErrorCode.UNKNOWN_ARGUMENT, ErrorCode.MISSING_REQUIRED, ErrorCode.MISSING_REQUIRED, ErrorCode.MISSING_REQUIRED));
+        Assertions.assertEquals(result.errors().get(2).position(), 3);
+        Assertions.assertEquals(result.errors().get(3).key(), "--testEnum");
+
+        final ParseResult<ResultEnumClass> enumResult = ArgumentParser.tryParse(ResultEnumClass.class, createArray("--testEnum -W"), true);
+        Assertions.assertEquals(enumResult.errors().get(0).code(), ErrorCode.INVALID_VALUE);
+        Assertions.assertEquals(enumResult.errors().get(0).message(), "Error in testEnum");
+
+        final ParseResult<ResultEnumClass> noValue = ArgumentParser.tryParse(ResultEnumClass.class, createArray("--testEnum"), true);
+        Assertions.assertEquals(noValue.errors().get(0).code(), ErrorCode.NO_VALUE);
+    }
+}
@@ -0,0 +1,165 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.daemon.ParseClient;
+import parser.daemon.ParseServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+
+@Container
+class GreetCommand {
+    @Argument(value = "--name", messageError = "Error in name")
+    public String name;
+
+    @Argument(value = "--times", messageError = "Error in times")
+    @NotRequired
+    public int times = 1;
+}
+
+
+public class ParseServerTest {
+
+    private static ParseServer createServer(final Path dir) throws IOException {
+        return new ParseServer(dir.resolve("parser.sock"))
+                .register("greet", GreetCommand.class, (command, env, out, err) -> {
+                    for (int i = 0; i < command.times; i++) {
+                        out.println(env.getOrDefault("GREETING", "Hello") + ", " + command.name);
+                    }
+                    return 0;
+                })
+                .register("large", GreetCommand.class, (command, env, out, err) -> {
+                    final byte[] bytes = new byte[command.times];
+                    Arrays.fill(bytes, (byte) 'a');
+                    out.write(bytes);
+                    err.write('e');
+                    err.write('r');
+                    return 0;
+                })
+                .register("fail", GreetCommand.class, (command, env, out, err) -> {
+                    throw new IllegalStateException("failed for " + command.name);
+                })
+                .start();
+    }
+
+    @Test
+    @DisplayName("Requests of one connection")
+    void test1(@TempDir final Path dir) throws IOException {
+        final ParseServer server = createServer(dir);
+        try (server; ParseClient client = new ParseClient(dir.resolve("parser.sock"))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final ByteArrayOutputStream err = new ByteArrayOutputStream();
+            final int code = client.execute("greet", new String[]{"--name", "world", "--times", "2"}, Map.of("GREETING", "Hi"), out, err);
+            Assertions.assertEquals(code, 0);
+            Assertions.assertEquals(out.toString(StandardCharsets.UTF_8), "Hi, world" + System.lineSeparator() + "Hi, world" + System.lineSeparator());
+            Assertions.assertEquals(err.size(), 0);
+
+            out.reset();
+            Assertions.assertEquals(client.execute("greet", new String[]{"--name", "again"}, Map.of(), out, err), 0);
+            Assertions.assertEquals(out.toString(StandardCharsets.UTF_8), "Hello, again" + System.lineSeparator());
+        }
+    }
+
+    @Test
+    @DisplayName("Exit codes of errors")
+    void test2(@TempDir final Path dir) throws IOException {
+        final ParseServer server = createServer(dir);
+        try (server; ParseClient client = new ParseClient(dir.resolve("parser.sock"))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final ByteArrayOutputStream err = new ByteArrayOutputStream();
+            Assertions.assertEquals(client.execute("greet", new String[]{"--times", "x"}, Map.of(), out, err), ParseServer.USAGE_ERROR);
+            Assertions.assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Error in times"));
+
+            err.reset();
+            Assertions.assertEquals(client.execute("unknown", new String[0], Map.of(), out, err), ParseServer.USAGE_ERROR);
+            Assertions.assertEquals(err.toString(StandardCharsets.UTF_8), "Unknown command: unknown" + System.lineSeparator());
+
+            err.reset();
+            Assertions.assertEquals(client.execute("fail", new String[]{"--name", "x"}, Map.of(), out, err), 1);
+            Assertions.assertEquals(err.toString(StandardCharsets.UTF_8), "Command fail failed" + System.lineSeparator());
+            Assertions.assertEquals(out.size(), 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Socket file is accessible only by its owner")
+    void test4(@TempDir final Path dir) throws IOException {
+        final ParseServer server = createServer(dir);
+        try (server) {
+            final Path socket = dir.resolve("parser.sock");
+            Assertions.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)), "rw-------");
+            try (Stream<Path> files = Files.list(dir)) {
+                Assertions.assertEquals(files.toList(), List.of(socket));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel clients")
+    void test3(@TempDir final Path dir) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final ParseServer server = createServer(dir);
+        try (server) {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                final String name = "client" + i;
+                results.add(executor.submit(() -> {
+                    try (ParseClient client = new ParseClient(dir.resolve("parser.sock"))) {
+                        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        client.execute("greet", new String[]{"--name", name}, Map.of(), out, new ByteArrayOutputStream());
+                        return out.toString(StandardCharsets.UTF_8);
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Assertions.assertEquals(results.get(i).get(), "Hello, client" + i + System.lineSeparator());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Output larger than a frame")
+    void test5(@TempDir final Path dir) throws IOException {
+        final ParseServer server = createServer(dir);
+        try (server; ParseClient client = new ParseClient(dir.resolve("parser.sock"))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final ByteArrayOutputStream err = new ByteArrayOutputStream();
+            final int size = (1 << 20) * 3 + 5;
+            Assertions.assertEquals(client.execute("large", new String[]{"--name", "x", "--times", String.valueOf(size)}, Map.of(), out, err), 0);
+            Assertions.assertEquals(out.size(), size);
+            Assertions.assertEquals(err.toString(StandardCharsets.UTF_8), "er");
+        }
+    }
+
+    @Test
+    @DisplayName("Closed server closes its connections")
+    void test6(@TempDir final Path dir) throws IOException {
+        final ParseServer server = createServer(dir);
+        try (ParseClient client = new ParseClient(dir.resolve("parser.sock"))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Assertions.assertEquals(client.execute("greet", new String[]{"--name", "x"}, Map.of(), out, out), 0);
+            server.close();
+            Assertions.assertThrows(IOException.class, () -> client.execute("greet", new String[]{"--name", "x"}, Map.of(), out, out));
+        } finally {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+import annotations.Container;
+import annotations.fields.*;
+
+
+@Container
+record RecordClass(
+        @Argument(value = "--port", messageError = "Error in port") int port,
+        @Argument(value = "--ratio", messageError = "Error in ratio") @NotRequired float ratio,
+        @Argument(value = "--host", messageError = "Error in host") @NotRequired String host,
+        @EnumArgument(value = "--testEnum", messageError = "Error in testEnum") TestEnum testEnum,
+        @ListArgument(value = "--ids", messageError = "Error in ids") @NotRequired long[] ids,
+        @BoolArgument(value = "--cache", def = true) boolean cache) {
+}
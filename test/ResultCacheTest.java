@@ -0,0 +1,147 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ResultCache;
+import parser.exception.ArgumentParserException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+@Container
+class CachedClass {
+    @Argument(value = "--job", messageError = "Error in job")
+    public String job;
+
+    @Argument(value = "--memory", messageError = "Error in memory", sizeSuffix = true)
+    public long memory;
+
+    @ListArgument(value = "--ids", messageError = "Error in ids")
+    @NotRequired
+    public List<Integer> ids;
+
+    @BoolArgument("--retry")
+    public boolean retry;
+
+    @ListArgument(value = "--ports", messageError = "Error in ports")
+    @NotRequired
+    public int[] ports;
+
+    @ListArgument(value = "--tags", messageError = "Error in tags")
+    @NotRequired
+    public List<String> tags = new ArrayList<>();
+}
+
+@Container
+record CachedRecord(@Argument(value = "--port", messageError = "Error in port") int port,
+                    @Argument(value = "--host", messageError = "Error in host") @NotRequired String host) {
+}
+
+
+public class ResultCacheTest {
+
+    @Test
+    @DisplayName("Hits return copies of the cached container")
+    void test1() throws ArgumentParserException {
+        final ResultCache<CachedClass> cache = ArgumentParser.cache(CachedClass.class, 100);
+        final String[] args = {"--job", "build", "--memory", "2g", "--ids", "1,2", "--retry"};
+        final CachedClass first = cache.parse(args);
+        first.job = "changed";
+        args[1] = "test";
+        final CachedClass second = cache.parse(new String[]{"--job", "build", "--memory", "2g", "--ids", "1,2", "--retry"});
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(second.job, "build");
+        Assertions.assertEquals(second.memory, 2L << 30);
+        Assertions.assertEquals(second.ids, List.of(1, 2));
+        Assertions.assertTrue(second.retry);
+
+        final ResultCache.Stats stats = cache.stats();
+        Assertions.assertEquals(stats.hits(), 1);
+        Assertions.assertEquals(stats.misses(), 1);
+        Assertions.assertEquals(stats.size(), 1);
+        Assertions.assertEquals(stats.hitRate(), 0.5);
+
+        Assertions.assertThrows(ArgumentParserException.class, () -> cache.parse(new String[]{"--job", "x"}));
+        Assertions.assertEquals(cache.stats().size(), 1);
+    }
+
+    @Test
+    @DisplayName("Least recently used vectors are evicted")
+    void test2() throws ArgumentParserException {
+        final ResultCache<CachedClass> cache = new ResultCache<>(ArgumentParser.compile(CachedClass.class), 4, args -> 1, true);
+        final String[][] vectors = new String[6][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = new String[]{"--job", "job" + i, "--memory", Integer.toString(i)};
+        }
+        final CachedClass shared = cache.parse(vectors[0]);
+        for (int i = 1; i < 4; i++) {
+            cache.parse(vectors[i]);
+        }
+        Assertions.assertSame(cache.parse(vectors[0]), shared);
+        cache.parse(vectors[4]);
+        cache.parse(vectors[5]);
+
+        final ResultCache.Stats stats = cache.stats();
+        Assertions.assertEquals(stats.evictions(), 2);
+        Assertions.assertEquals(stats.size(), 4);
+        Assertions.assertSame(cache.parse(vectors[0]), shared);
+        Assertions.assertEquals(cache.stats().hits(), 2);
+        cache.parse(vectors[1]);
+        Assertions.assertEquals(cache.stats().misses(), 7);
+
+        cache.clear();
+        Assertions.assertEquals(cache.stats().size(), 0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ResultCache<>(ArgumentParser.compile(CachedClass.class), 0));
+
+        /// 103 is not divisible by the number of stripes, the stripes together still keep at most 103 vectors
+        final ResultCache<CachedClass> odd = new ResultCache<>(ArgumentParser.compile(CachedClass.class), 103);
+        for (int i = 0; i < 2000; i++) {
+            odd.parse(new String[]{"--job", "job" + i, "--memory", "1"});
+        }
+        Assertions.assertEquals(odd.stats().size(), 103);
+    }
+
+    @Test
+    @DisplayName("Records are shared and weight bounds the cache")
+    void test3() throws ArgumentParserException {
+        final ResultCache<CachedRecord> cache = new ResultCache<>(ArgumentParser.compile(CachedRecord.class), 10,
+                args -> Arrays.stream(args).mapToInt(String::length).sum(), false);
+        final String[] args = {"--port", "1", "--host", "local"};
+        Assertions.assertEquals(cache.parse(args), cache.parse(args));
+        Assertions.assertEquals(cache.stats().size(), 0);
+        Assertions.assertEquals(cache.stats().misses(), 2);
+
+        final ResultCache<CachedRecord> large = new ResultCache<>(ArgumentParser.compile(CachedRecord.class), 100);
+        Assertions.assertSame(large.parse(args), large.parse(args));
+
+        final ResultCache<CachedRecord> negative = new ResultCache<>(ArgumentParser.compile(CachedRecord.class), 100, ignored -> -1, false);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> negative.parse(args));
+        Assertions.assertEquals(negative.stats().size(), 0);
+    }
+
+    @Test
+    @DisplayName("Arrays and lists of hits are not shared")
+    void test4() throws ArgumentParserException {
+        final ResultCache<CachedClass> cache = ArgumentParser.cache(CachedClass.class, 100);
+        final String[] args = {"--job", "build", "--memory", "1", "--ports", "80,443"};
+        final CachedClass first = cache.parse(args);
+        first.ports[0] = 8080;
+        first.tags.add("changed");
+        final CachedClass second = cache.parse(args);
+        Assertions.assertArrayEquals(second.ports, new int[]{80, 443});
+        Assertions.assertEquals(second.tags, List.of());
+        second.ports[1] = 8443;
+        Assertions.assertArrayEquals(cache.parse(args).ports, new int[]{80, 443});
+
+        final ResultCache<RecordClass> records = ArgumentParser.cache(RecordClass.class, 100);
+        final String[] recordArgs = {"--port", "1", "--testEnum", "X", "--ids", "5,6"};
+        final RecordClass record = records.parse(recordArgs);
+        record.ids()[0] = -1;
+        Assertions.assertArrayEquals(records.parse(recordArgs).ids(), new long[]{5, 6});
+        Assertions.assertEquals(records.parse(recordArgs).port(), 1);
+    }
+}
@@ -0,0 +1,120 @@
+import annotations.Container;
+import annotations.Subcommand;
+import annotations.Subcommands;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.CommandLine;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.util.List;
+
+
+@Container
+@Subcommands({
+        @Subcommand(name = "deploy", container = DeployCommand.class),
+        @Subcommand(name = "remote", container = RemoteCommand.class),
+        @Subcommand(name = "broken", container = NotContainerCommand.class)
+})
+class ToolOptions {
+    @BoolArgument("--verbose")
+    public boolean verbose;
+
+    @Argument(value = "--config", messageError = "Error in config")
+    @NotRequired
+    public String config;
+}
+
+@Container
+class DeployCommand {
+    @Argument(value = "--replicas", messageError = "Error in replicas")
+    public int replicas;
+
+    @Argument(value = "--target", messageError = "Error in target")
+    @NotRequired
+    public String target;
+}
+
+@Container
+@Subcommands(value = {
+        @Subcommand(name = "add", container = RemoteAddCommand.class),
+        @Subcommand(name = "remove", container = RemoteAddCommand.class)
+}, required = false)
+class RemoteCommand {
+    @BoolArgument("-v")
+    public boolean verbose;
+}
+
+@Container
+class RemoteAddCommand {
+    @Argument(value = "--url", messageError = "Error in url")
+    public String url;
+}
+
+class NotContainerCommand {
+    public int value;
+}
+
+@Container
+@Subcommands({@Subcommand(name = "a", container = DeployCommand.class), @Subcommand(name = "a", container = RemoteCommand.class)})
+class SameNamesOptions {
+}
+
+
+public class SubcommandTest {
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    @Test
+    @DisplayName("Global options and command")
+    void test1() throws ArgumentParserException {
+        final CommandLine<ToolOptions> line = ArgumentParser.parseCommand(ToolOptions.class,
+                createArray("--verbose --config deploy deploy --replicas 3 --target remote"));
+        Assertions.assertTrue(line.options().verbose);
+        Assertions.assertEquals(line.options().config, "deploy");
+        Assertions.assertEquals(line.names(), List.of("deploy"));
+        final DeployCommand command = line.command(DeployCommand.class);
+        Assertions.assertEquals(command.replicas, 3);
+        Assertions.assertEquals(command.target, "remote");
+    }
+
+    @Test
+    @DisplayName("Nested commands")
+    void test2() throws ArgumentParserException {
+        final CommandLine<ToolOptions> line = ArgumentParser.parseCommand(ToolOptions.class, createArray("remote -v add --url ssh://host"));
+        Assertions.assertFalse(line.options().verbose);
+        Assertions.assertEquals(line.names(), List.of("remote", "add"));
+        Assertions.assertTrue(((RemoteCommand) line.containers().get(1)).verbose);
+        Assertions.assertEquals(line.command(RemoteAddCommand.class).url, "ssh://host");
+
+        final CommandLine<ToolOptions> optional = ArgumentParser.parseCommand(ToolOptions.class, createArray("remote -v"));
+        Assertions.assertEquals(optional.names(), List.of("remote"));
+        Assertions.assertTrue(optional.command(RemoteCommand.class).verbose);
+    }
+
+    @Test
+    @DisplayName("Catch error in commands")
+    void test3() {
+        final ArgumentParserException noCommand = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseCommand(ToolOptions.class, createArray("--verbose"));
+        });
+        Assertions.assertEquals(noCommand.getMessage(), "No command, expected one of: deploy, remote, broken");
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseCommand(ToolOptions.class, createArray("deploy --replicas 3 --verbose"));
+        });
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseCommand(ToolOptions.class, createArray("--unknown deploy --replicas 3"));
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseCommand(ToolOptions.class, createArray("broken"));
+        });
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> {
+            ArgumentParser.parseCommand(SameNamesOptions.class, createArray("a --replicas 1"));
+        });
+    }
+}
@@ -0,0 +1,3 @@
+enum TestEnum {
+    X, Y, Z
+}
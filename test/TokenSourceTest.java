@@ -0,0 +1,112 @@
+import annotations.Container;
+import annotations.fields.Argument;
+import annotations.fields.BoolArgument;
+import annotations.fields.NotRequired;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.ArgumentParser;
+import parser.exception.ArgumentParserException;
+import parser.source.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+
+@Container
+class SourceClass {
+    @Argument(value = "--name", messageError = "Error in name")
+    public String name;
+
+    @Argument(value = "--count", messageError = "Error in count")
+    @NotRequired
+    public long count;
+
+    @BoolArgument("--flag")
+    public boolean flag;
+}
+
+
+public class TokenSourceTest {
+
+    private static List<String> readAll(final TokenSource source) throws IOException {
+        final List<String> tokens = new ArrayList<>();
+        try (source) {
+            CharSequence token;
+            while ((token = source.next()) != null) {
+                tokens.add(token.toString());
+            }
+        }
+        return tokens;
+    }
+
+    @Test
+    @DisplayName("Quotes, escapes and comments")
+    void test1() throws IOException {
+        final String text = "# comment\n  --name 'hello world'\t\"a\\tb\" x\"y z\"\n'multi\\\n    line' ''\n";
+        final List<String> tokens = readAll(new ReaderTokenSource(new StringReader(text)));
+        Assertions.assertEquals(tokens, List.of("--name", "hello world", "a\tb", "xy z", "multiline", ""));
+    }
+
+    @Test
+    @DisplayName("Mapped file gives same tokens as reader")
+    void test2(@TempDir final Path dir) throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append("--key").append(i).append(" 'значение ").append(i).append("'\n");
+        }
+        final Path file = dir.resolve("args.txt");
+        Files.writeString(file, text);
+
+        final List<String> expected = readAll(new ReaderTokenSource(new StringReader(text.toString())));
+        Assertions.assertEquals(expected.size(), 40000);
+        Assertions.assertEquals(readAll(new MappedFileTokenSource(file)), expected);
+    }
+
+    @Test
+    @DisplayName("Argfile expansion")
+    void test3(@TempDir final Path dir) throws IOException, ArgumentParserException {
+        final Path file = dir.resolve("args.txt");
+        Files.writeString(file, "--count 42\n--flag\n");
+        final String[] args = {"--name", "@@at", "@" + file};
+
+        final SourceClass obj = ArgumentParser.parseArguments(SourceClass.class, new ArgFileTokenSource(new ArrayTokenSource(args)));
+        Assertions.assertEquals(obj.name, "@at");
+        Assertions.assertEquals(obj.count, 42);
+        Assertions.assertTrue(obj.flag);
+    }
+
+    @Test
+    @DisplayName("Parse from reader")
+    void test4() throws IOException, ArgumentParserException {
+        final SourceClass obj = ArgumentParser.parseArguments(SourceClass.class, new ReaderTokenSource(new StringReader("--name 'a b' --count 7")));
+        Assertions.assertEquals(obj.name, "a b");
+        Assertions.assertEquals(obj.count, 7);
+        Assertions.assertFalse(obj.flag);
+
+        Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(SourceClass.class, new ReaderTokenSource(new StringReader("--name x --count")));
+        });
+    }
+
+    @Test
+    @DisplayName("Null element is an error, not the end of input")
+    void test5() {
+        final ArgumentParserException key = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(SourceClass.class, new String[]{"--name", "x", null, "--flag"});
+        });
+        Assertions.assertEquals(key.getMessage(), "No expected argument: null");
+
+        final ArgumentParserException value = Assertions.assertThrows(ArgumentParserException.class, () -> {
+            ArgumentParser.parseArguments(SourceClass.class, new String[]{"--name", null, "--flag"});
+        });
+        Assertions.assertEquals(value.getMessage(), "No value for argument: --name");
+
+        Assertions.assertEquals(ArgumentParser.tryParse(SourceClass.class, new String[]{null, "--name", "x", "--count", null}, true).errors().size(), 2);
+    }
+}
@@ -0,0 +1,176 @@
+import annotations.Container;
+import annotations.fields.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import parser.ArgumentParser;
+import parser.ErrorCode;
+import parser.ParseResult;
+import parser.convert.ValueConverter;
+import parser.exception.ArgumentParserException;
+import parser.exception.ClassNotCorrectException;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+
+@Container
+class ConvertedClass {
+    @Argument(value = "--dir", messageError = "Error in dir")
+    public Path dir;
+
+    @Argument(value = "--timeout", messageError = "Error in timeout")
+    @NotRequired
+    public Duration timeout = Duration.ofSeconds(10);
+
+    @Argument(value = "--since", messageError = "Error in since")
+    @NotRequired
+    public Instant since;
+
+    @Argument(value = "--price", messageError = "Error in price")
+    @NotRequired
+    public BigDecimal price;
+
+    @Argument(value = "--version", messageError = "Error in version")
+    @NotRequired
+    public ValueConverterTest.Version version;
+
+    @Argument(value = "--name", messageError = "Error in name", converter = ValueConverterTest.UpperCaseConverter.class)
+    @NotRequired
+    public String name;
+}
+
+@Container
+class FailingConverterClass {
+    @Argument(value = "--name", messageError = "Error in name", converter = ValueConverterTest.FailingConverter.class)
+    public String name;
+}
+
+@Container
+class NotSupportedTypeClass {
+    @Argument(value = "--id", messageError = "Error in id")
+    public UUID id;
+}
+
+@Container
+class WrongConverterClass {
+    @Argument(value = "--dir", messageError = "Error in dir", converter = ValueConverterTest.UpperCaseConverter.class)
+    public Path dir;
+}
+
+@Container
+class PrimitiveConverterClass {
+    @Argument(value = "--port", messageError = "Error in port", converter = ValueConverterTest.UpperCaseConverter.class)
+    public int port;
+}
+
+
+public class ValueConverterTest {
+
+    public record Version(int major, int minor) {
+    }
+
+    /// Registered in META-INF/services/parser.convert.ValueConverter
+    public static final class VersionConverter implements ValueConverter<Version> {
+        @Override
+        public Class<Version> type() {
+            return Version.class;
+        }
+
+        @Override
+        public Version convert(final CharSequence value) {
+            final String[] parts = value.toString().split("\\.");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Not correct version: " + value);
+            }
+            return new Version(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+    }
+
+    public static final class UpperCaseConverter implements ValueConverter<String> {
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public String convert(final CharSequence value) {
+            return value.toString().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    public static final class FailingConverter implements ValueConverter<String> {
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public String convert(final CharSequence value) {
+            if (value.isEmpty()) {
+                throw new IllegalStateException("Empty value");
+            }
+            return value.charAt(0) == '-' ? null : value.toString().substring(1, 3);
+        }
+    }
+
+    private static String[] createArray(final String src) {
+        return src.split(" ");
+    }
+
+    @Test
+    @DisplayName("Built-in, service and annotated converters")
+    void test1() throws ArgumentParserException {
+        final ConvertedClass obj = ArgumentParser.parseArguments(ConvertedClass.class,
+                createArray("--dir /tmp/data --timeout 1500ms --since 2024-01-01T10:15:30Z --price 10.25 --version 2.7 --name job"));
+        Assertions.assertEquals(obj.dir, Path.of("/tmp/data"));
+        Assertions.assertEquals(obj.timeout, Duration.ofMillis(1500));
+        Assertions.assertEquals(obj.since, Instant.parse("2024-01-01T10:15:30Z"));
+        Assertions.assertEquals(obj.price, new BigDecimal("10.25"));
+        Assertions.assertEquals(obj.version, new Version(2, 7));
+        Assertions.assertEquals(obj.name, "JOB");
+
+        final ConvertedClass defaults = ArgumentParser.parseArguments(ConvertedClass.class, createArray("--dir . --timeout PT1M"));
+        Assertions.assertEquals(defaults.timeout, Duration.ofMinutes(1));
+        Assertions.assertNull(defaults.version);
+    }
+
+    @Test
+    @DisplayName("Results of cacheable converters are shared")
+    void test2() throws ArgumentParserException {
+        final ConvertedClass first = ArgumentParser.parseArguments(ConvertedClass.class, createArray("--dir a --timeout 30s --version 1.0"));
+        final ConvertedClass second = ArgumentParser.parseArguments(ConvertedClass.class, createArray("--dir a --timeout 30s --version 1.0"));
+        Assertions.assertSame(first.timeout, second.timeout);
+        Assertions.assertSame(first.version, second.version);
+        Assertions.assertSame(first.dir, second.dir);
+    }
+
+    @Test
+    @DisplayName("Not correct values and converters")
+    void test3() {
+        final ParseResult<ConvertedClass> result = ArgumentParser.tryParse(ConvertedClass.class,
+                createArray("--dir a --timeout 5x --since yesterday --price 1,5 --version 1"), true);
+        Assertions.assertEquals(result.errors().size(), 4);
+        Assertions.assertEquals(result.errors().get(0).code(), ErrorCode.INVALID_VALUE);
+        Assertions.assertEquals(result.errors().get(2).code(), ErrorCode.INVALID_NUMBER);
+
+        final ParseResult<FailingConverterClass> failed = ArgumentParser.tryParse(FailingConverterClass.class, createArray("--name a"));
+        Assertions.assertEquals(failed.errors().get(0).code(), ErrorCode.INVALID_VALUE);
+        Assertions.assertEquals(failed.errors().get(0).message(), "Error in name");
+        Assertions.assertEquals(ArgumentParser.tryParse(FailingConverterClass.class, new String[]{"--name", ""}).errors().get(0).code(), ErrorCode.INVALID_VALUE);
+        Assertions.assertEquals(ArgumentParser.tryParse(FailingConverterClass.class, createArray("--name abcd")).value().name, "bc");
+
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> ArgumentParser.parseArguments(NotSupportedTypeClass.class, createArray("--id 1")));
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> ArgumentParser.parseArguments(WrongConverterClass.class, createArray("--dir a")));
+        Assertions.assertThrows(ClassNotCorrectException.class, () -> ArgumentParser.parseArguments(PrimitiveConverterClass.class, createArray("--port 1")));
+    }
+}